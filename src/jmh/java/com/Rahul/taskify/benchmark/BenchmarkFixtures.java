@@ -0,0 +1,69 @@
+package com.Rahul.taskify.benchmark;
+
+import com.Rahul.taskify.JwUtil;
+import com.Rahul.taskify.Model.Task;
+import com.Rahul.taskify.Model.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+// Shared test data for the benchmarks, built without a Spring context
+final class BenchmarkFixtures {
+
+    static final String USER_NAME = "bench-user";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwUtil jwUtil() {
+        JwUtil jwUtil = new JwUtil();
+        byte[] secret = "taskify-benchmark-secret-0123456789abcdef".getBytes();
+        ReflectionTestUtils.setField(jwUtil, "SECRET_KEY", Base64.getEncoder().encodeToString(secret));
+        ReflectionTestUtils.setField(jwUtil, "accessTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(jwUtil, "refreshTokenExpiration", 604_800_000L);
+        return jwUtil;
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUserName("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setRoles(Set.of("USER"));
+        user.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+        user.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+        return user;
+    }
+
+    // Tasks spread over a handful of users, so @JsonIdentityInfo has repeated references to resolve
+    static List<Task> tasks(int count, int distinctUsers) {
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= distinctUsers; i++) {
+            users.add(user(i));
+        }
+        String[] priorities = {"High", "Medium", "Low"};
+        String[] statuses = {"Pending", "In Progress", "Completed"};
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setDescription("Description for task " + i + " with a little bit of text to serialize.");
+            task.setDueDate(LocalDateTime.of(2025, 1, 1, 9, 0).plusDays(i % 30));
+            task.setPriority(priorities[i % 3]);
+            task.setStatus(statuses[i % 3]);
+            task.setCompleted(i % 3 == 2);
+            User user = users.get(i % distinctUsers);
+            task.setCreatedBy(user);
+            task.setAssignedTo(user);
+            task.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+            task.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
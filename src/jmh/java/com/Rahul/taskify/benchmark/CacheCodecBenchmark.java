@@ -0,0 +1,74 @@
+package com.Rahul.taskify.benchmark;
+
+import com.Rahul.taskify.Configuration.CacheCodec;
+import com.Rahul.taskify.Configuration.CompactCacheSerializer;
+import com.Rahul.taskify.Model.Task;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Encode/decode of a "tasks" cache entry (List<Task>) per Redis cache codec. The bytes per entry of each
+// combination are printed once per trial ("bytes/entry"), since JMH only measures time.
+//   generic-json: CompactCacheSerializer with the json codec (GenericJackson2JsonRedisSerializer + java.time)
+//   jdk:          Java serialization, the cache manager's default before RedisCacheCodecConfig
+//   smile / smile-lz4: CompactCacheSerializer with the typed Smile codec, uncompressed / LZ4 from 1 KB
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    @Param({"generic-json", "jdk", "smile", "smile-lz4"})
+    public String codec;
+
+    @Param({"1", "20", "200"})
+    public int tasks;
+
+    private RedisSerializer<Object> serializer;
+    private List<Task> value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        value = BenchmarkFixtures.tasks(tasks, 5);
+        ClassLoader classLoader = getClass().getClassLoader();
+        CacheCodec jdk = CacheCodec.jdk(classLoader);
+        CacheCodec smile = CacheCodec.smile(Jackson2ObjectMapperBuilder.smile().build(),
+                TypeFactory.defaultInstance().constructCollectionType(List.class, Task.class));
+        serializer = switch (codec) {
+            case "generic-json" -> new CompactCacheSerializer("tasks", CacheCodec.json(), List.of(jdk), jdk, 0);
+            case "jdk" -> RedisSerializer.java(classLoader);
+            case "smile" -> new CompactCacheSerializer("tasks", smile, List.of(jdk), jdk, 0);
+            case "smile-lz4" -> new CompactCacheSerializer("tasks", smile, List.of(jdk), jdk, 1024);
+            default -> throw new IllegalArgumentException(codec);
+        };
+        encoded = serializer.serialize(value);
+        System.out.printf("%n%s, %d tasks: %d bytes/entry%n", codec, tasks, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+}
@@ -0,0 +1,93 @@
+package com.Rahul.taskify.benchmark;
+
+import com.Rahul.taskify.Service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.interceptor.CacheKeyEvaluation;
+import org.springframework.cache.interceptor.CacheOperation;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Key generation for the @Cacheable methods of TaskService, as the cache interceptor does it on every call: the key
+// expression is read from the annotation (AnnotationCacheOperationSource) and evaluated by Spring's own
+// CacheOperationExpressionEvaluator (through CacheKeyEvaluation). Only getCurrentUserId() is stubbed.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeySpelBenchmark {
+
+    private final CacheKeyEvaluation evaluation = new CacheKeyEvaluation();
+    private final TaskService target = new StubTaskService();
+    private final Collection<Cache> caches = List.of(new ConcurrentMapCache("tasks"));
+
+    private KeyedMethod userKey;
+    private KeyedMethod statusKey;
+    private KeyedMethod pagedKey;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        userKey = keyedMethod(TaskService.class.getMethod("getAllTask"));
+        statusKey = keyedMethod(TaskService.class.getMethod("getTasksByStatus", String.class), "Pending");
+        pagedKey = keyedMethod(TaskService.class.getMethod("getAllTaskPaged", Pageable.class), PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public Object userKey() {
+        return generateKey(userKey);
+    }
+
+    @Benchmark
+    public Object statusKey() {
+        return generateKey(statusKey);
+    }
+
+    @Benchmark
+    public Object pagedKey() {
+        return generateKey(pagedKey);
+    }
+
+    // CacheAspectSupport: one evaluation context per invocation, then the key expression
+    private Object generateKey(KeyedMethod keyed) {
+        return evaluation.key(keyed.key(), caches, keyed.method(), keyed.args(), target, TaskService.class);
+    }
+
+    private static KeyedMethod keyedMethod(Method method, Object... args) {
+        Collection<CacheOperation> operations = new AnnotationCacheOperationSource()
+                .getCacheOperations(method, TaskService.class);
+        if (operations == null || operations.size() != 1) {
+            throw new IllegalStateException("expected one cache operation on " + method + ", got " + operations);
+        }
+        String key = operations.iterator().next().getKey();
+        return new KeyedMethod(method, args, key);
+    }
+
+    private record KeyedMethod(Method method, Object[] args, String key) {
+    }
+
+    // #root.target.getCurrentUserId() would read the security context and the user repository
+    private static final class StubTaskService extends TaskService {
+        @Override
+        public Long getCurrentUserId() {
+            return 42L;
+        }
+    }
+}
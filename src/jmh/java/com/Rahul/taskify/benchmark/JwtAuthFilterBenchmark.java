@@ -0,0 +1,67 @@
+package com.Rahul.taskify.benchmark;
+
+import com.Rahul.taskify.JwUtil;
+import com.Rahul.taskify.Security.JwtAuthFilter;
+import com.Rahul.taskify.Service.CustomUserDetailService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Full JwtAuthFilter pass for an authenticated request; the user lookup is stubbed so only the filter,
+// JWT parsing and SecurityContext population are measured (not the DB)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+    private JwtAuthFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwUtil jwUtil = BenchmarkFixtures.jwUtil();
+        UserDetails details = new User(BenchmarkFixtures.USER_NAME, "{noop}secret",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        CustomUserDetailService userDetailService = new CustomUserDetailService() {
+            @Override
+            public UserDetails loadUserByUsername(String username) {
+                return details;
+            }
+        };
+        filter = new JwtAuthFilter(jwUtil, userDetailService);
+        authorization = "Bearer " + jwUtil.generateAccessToken(BenchmarkFixtures.USER_NAME);
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/task/getAllTask");
+        request.setServletPath("/api/task/getAllTask");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.Rahul.taskify.benchmark;
+
+import com.Rahul.taskify.JwUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// JwUtil token build + parse: runs on every login / refresh and on every authenticated request
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwUtil jwUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwUtil = BenchmarkFixtures.jwUtil();
+        token = jwUtil.generateAccessToken(BenchmarkFixtures.USER_NAME);
+    }
+
+    @Benchmark
+    public String buildAccessToken() {
+        return jwUtil.generateAccessToken(BenchmarkFixtures.USER_NAME);
+    }
+
+    @Benchmark
+    public String parseUsername() {
+        return jwUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwUtil.validateToken(token, BenchmarkFixtures.USER_NAME);
+    }
+}
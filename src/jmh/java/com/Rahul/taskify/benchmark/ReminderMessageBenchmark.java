@@ -0,0 +1,50 @@
+package com.Rahul.taskify.benchmark;
+
+import com.Rahul.taskify.dto.ReminderMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+// ReminderMessage <-> AMQP message conversion with the converter RabbitMQConfig registers
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReminderMessageBenchmark {
+
+    private Jackson2JsonMessageConverter converter;
+    private ReminderMessage reminder;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        converter = new Jackson2JsonMessageConverter();
+        reminder = new ReminderMessage(42L, "user42@example.com", "user42", "Submit the quarterly report", "2025-01-31",
+                1_735_689_600_000L, false, "2025-01-30");
+        message = converter.toMessage(reminder, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message toMessage() {
+        return converter.toMessage(reminder, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object fromMessage() {
+        return converter.fromMessage(message, ReminderMessage.class);
+    }
+}
@@ -0,0 +1,25 @@
+package org.springframework.cache.interceptor;
+
+import org.springframework.cache.Cache;
+import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+// Benchmark-only bridge to Spring's package-private CacheOperationExpressionEvaluator, set up as CacheAspectSupport
+// does it, so CacheKeySpelBenchmark measures the interceptor's own key evaluation (classpath only, no module split).
+public final class CacheKeyEvaluation {
+
+    private final CacheOperationExpressionEvaluator evaluator =
+            new CacheOperationExpressionEvaluator(new CacheEvaluationContextFactory(new StandardEvaluationContext()));
+
+    // Key of a @Cacheable call before the method runs (no #result yet)
+    public Object key(String keyExpression, Collection<? extends Cache> caches, Method method, Object[] args,
+                      Object target, Class<?> targetClass) {
+        EvaluationContext context = evaluator.createEvaluationContext(caches, method, args, target, targetClass, method,
+                CacheOperationExpressionEvaluator.NO_RESULT);
+        return evaluator.key(keyExpression, new AnnotatedElementKey(method, targetClass), context);
+    }
+}
@@ -0,0 +1,56 @@
+package com.Rahul.taskify.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Executor for async MVC bodies (StreamingResponseBody, Callable), e.g. /api/tts/stream and cached audio.
+ *
+ * A streamed clip holds its thread for the whole clip. With Boot's shared applicationTaskExecutor (8 threads,
+ * unbounded queue) a few slow streams would queue every other async response behind them. Here the pool is
+ * {@code app.mvc.async.pool-size} threads with at most {@code queue-capacity} waiting; beyond that the request
+ * fails fast (TaskRejectedException, mapped to 503 by TtsController) instead of waiting without limit.
+ * Not a bean on purpose: an Executor bean would replace Boot's applicationTaskExecutor for everything else.
+ * Applied after Boot's own WebMvcConfigurer (order 0), so this executor wins.
+ */
+@Configuration
+public class AsyncMvcConfig implements WebMvcConfigurer, DisposableBean {
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @Value("${spring.mvc.async.request-timeout:120s}")
+    private Duration requestTimeout;
+
+    public AsyncMvcConfig(@Value("${app.mvc.async.pool-size:16}") int poolSize,
+                          @Value("${app.mvc.async.queue-capacity:32}") int queueCapacity,
+                          MeterRegistry meterRegistry) {
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        Gauge.builder("mvc.async.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Async MVC responses being written").register(meterRegistry);
+        Gauge.builder("mvc.async.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Async MVC responses waiting for a thread").register(meterRegistry);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(executor);
+        configurer.setDefaultTimeout(requestTimeout.toMillis());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,90 @@
+package com.Rahul.taskify.Configuration;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * Value format of one Redis cache, chosen per cache name with {@code cache.codec.<cache>} (see RedisCacheCodecConfig).
+ * The id is written into every entry (see {@link CompactCacheSerializer}), so entries written with another codec
+ * are still read after a switch.
+ */
+public interface CacheCodec {
+
+    byte JDK = 1;
+    byte JSON = 2;
+    byte SMILE = 3;
+
+    byte id();
+
+    byte[] encode(Object value);
+
+    Object decode(byte[] bytes);
+
+    // Java serialization: works for any Serializable value (e.g. PageImpl), biggest and slowest
+    static CacheCodec jdk(ClassLoader classLoader) {
+        JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer(classLoader);
+        return new CacheCodec() {
+            public byte id() {
+                return JDK;
+            }
+
+            public byte[] encode(Object value) {
+                return serializer.serialize(value);
+            }
+
+            public Object decode(byte[] bytes) {
+                return serializer.deserialize(bytes);
+            }
+        };
+    }
+
+    // readable JSON with a class name on every object, as RedisConfig's RedisTemplate writes it, plus java.time
+    static CacheCodec json() {
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer()
+                .configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+        return new CacheCodec() {
+            public byte id() {
+                return JSON;
+            }
+
+            public byte[] encode(Object value) {
+                return serializer.serialize(value);
+            }
+
+            public Object decode(byte[] bytes) {
+                return serializer.deserialize(bytes);
+            }
+        };
+    }
+
+    // Smile (binary JSON) bound to the cache's value type: no type names, back-references for repeated strings/keys
+    static CacheCodec smile(ObjectMapper smileMapper, JavaType valueType) {
+        return new CacheCodec() {
+            public byte id() {
+                return SMILE;
+            }
+
+            public byte[] encode(Object value) {
+                try {
+                    return smileMapper.writerFor(valueType).writeValueAsBytes(value);
+                } catch (IOException e) {
+                    throw new SerializationException("Could not write " + valueType + " as Smile", e);
+                }
+            }
+
+            public Object decode(byte[] bytes) {
+                try {
+                    return smileMapper.readValue(bytes, valueType);
+                } catch (IOException e) {
+                    throw new SerializationException("Could not read " + valueType + " from Smile", e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.Rahul.taskify.Configuration;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis value serializer of one cache: {@code [magic][codec id][flags][body]}.
+ * The body is LZ4-compressed (flag bit 0, original length prepended) when the encoded value is at least
+ * {@code compressMinBytes}; small entries stay as they are, LZ4 would only add its header.
+ *
+ * Reads accept any codec in {@code readers} by its id, and entries without the magic byte are read as plain Java
+ * serialization (what the cache manager wrote before codecs existed). An entry no reader understands is reported
+ * as a cache miss, so it is simply recomputed and overwritten.
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactCacheSerializer.class);
+
+    static final byte MAGIC = 0x54; // never the first byte of Java serialization (0xAC) or JSON
+    static final int HEADER = 3;
+    static final byte LZ4 = 1;
+
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+    private final String cacheName;
+    private final CacheCodec writer;
+    private final Map<Byte, CacheCodec> readers = new HashMap<>();
+    private final CacheCodec legacy;
+    private final int compressMinBytes;
+    private final LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4_FACTORY.fastDecompressor();
+
+    // compressMinBytes <= 0 turns compression off
+    public CompactCacheSerializer(String cacheName, CacheCodec writer, Iterable<CacheCodec> readers,
+                                  CacheCodec legacy, int compressMinBytes) {
+        this.cacheName = cacheName;
+        this.writer = writer;
+        this.legacy = legacy;
+        this.compressMinBytes = compressMinBytes;
+        readers.forEach(codec -> this.readers.put(codec.id(), codec));
+        this.readers.put(writer.id(), writer);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] body = writer.encode(value);
+        boolean compress = compressMinBytes > 0 && body.length >= compressMinBytes;
+        if (!compress) {
+            byte[] out = new byte[HEADER + body.length];
+            out[0] = MAGIC;
+            out[1] = writer.id();
+            System.arraycopy(body, 0, out, HEADER, body.length);
+            return out;
+        }
+        int max = compressor.maxCompressedLength(body.length);
+        byte[] out = new byte[HEADER + Integer.BYTES + max];
+        out[0] = MAGIC;
+        out[1] = writer.id();
+        out[2] = LZ4;
+        ByteBuffer.wrap(out, HEADER, Integer.BYTES).putInt(body.length);
+        int compressed = compressor.compress(body, 0, body.length, out, HEADER + Integer.BYTES, max);
+        byte[] trimmed = new byte[HEADER + Integer.BYTES + compressed];
+        System.arraycopy(out, 0, trimmed, 0, trimmed.length);
+        return trimmed;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC || bytes.length < HEADER) {
+            return legacy.decode(bytes);
+        }
+        CacheCodec codec = readers.get(bytes[1]);
+        if (codec == null) {
+            log.debug("Cache {}: entry written with unknown codec {}, treated as a miss", cacheName, bytes[1]);
+            return null;
+        }
+        byte[] body;
+        if ((bytes[2] & LZ4) != 0) {
+            int length = ByteBuffer.wrap(bytes, HEADER, Integer.BYTES).getInt();
+            body = new byte[length];
+            decompressor.decompress(bytes, HEADER + Integer.BYTES, body, 0, length);
+        } else {
+            body = new byte[bytes.length - HEADER];
+            System.arraycopy(bytes, HEADER, body, 0, body.length);
+        }
+        return codec.decode(body);
+    }
+}
@@ -0,0 +1,67 @@
+package com.Rahul.taskify.Configuration;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+// WebClient used by ElevenLabsService: its own bounded connection pool instead of the shared default connector,
+// so a burst of TTS calls can't open unbounded sockets or starve other WebClient users.
+@Configuration
+public class ElevenLabsClientConfig {
+
+    @Value("${elevenlabs.api.base-url:https://api.elevenlabs.io/v1}")
+    private String baseUrl;
+
+    @Value("${elevenlabs.pool.max-connections:16}")
+    private int maxConnections;
+
+    @Value("${elevenlabs.pool.pending-acquire-max:64}")
+    private int pendingAcquireMax;
+
+    @Value("${elevenlabs.pool.pending-acquire-timeout:10s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${elevenlabs.pool.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${elevenlabs.pool.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${elevenlabs.client.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${elevenlabs.client.response-timeout:30s}")
+    private Duration responseTimeout;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider elevenLabsConnectionProvider() {
+        return ConnectionProvider.builder("elevenlabs")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)   // drop sockets before the upstream LB silently closes them
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)              // reactor.netty.connection.provider.* meters
+                .build();
+    }
+
+    @Bean
+    public WebClient elevenLabsWebClient(WebClient.Builder webClientBuilder, ConnectionProvider elevenLabsConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(elevenLabsConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        return webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.Rahul.taskify.Configuration;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Topology for {@code outbox.relay.transport=rabbit}: events go to a topic exchange with routing key
+ * {@code <aggregate>.<EVENT_TYPE>} (e.g. {@code task.TASK_CREATED}); this app consumes them from its own queue.
+ */
+@Profile("!prod")
+@Configuration
+@ConditionalOnProperty(name = "outbox.relay.transport", havingValue = "rabbit")
+public class OutboxRabbitConfig {
+
+    @Value("${rabbitmq.events.exchange}")
+    private String eventsExchange;
+
+    @Value("${rabbitmq.events.queue}")
+    private String eventsQueue;
+
+    @Bean
+    public TopicExchange eventsExchange() {
+        return new TopicExchange(eventsExchange);
+    }
+
+    @Bean
+    public Queue eventsQueue() {
+        return new Queue(eventsQueue, true);
+    }
+
+    @Bean
+    public Binding eventsBinding(Queue eventsQueue, TopicExchange eventsExchange) {
+        return BindingBuilder.bind(eventsQueue).to(eventsExchange).with("#");
+    }
+}
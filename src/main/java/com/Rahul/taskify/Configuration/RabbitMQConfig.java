@@ -1,19 +1,30 @@
 package com.Rahul.taskify.Configuration;
 
+import com.Rahul.taskify.Service.RabbitReminderTransport;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.HeadersExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Profile;
 
-@Profile("!prod")//to disable it for production(deploying)
+import java.util.ArrayList;
+import java.util.List;
+
+// Only with reminder.transport=rabbit (the default); the prod profile uses the in-process transport and excludes
+// RabbitAutoConfiguration. To use RabbitMQ there, drop the exclusion and set reminder.transport=rabbit.
 @Configuration
+@ConditionalOnProperty(name = "reminder.transport", havingValue = "rabbit", matchIfMissing = true)
 public class RabbitMQConfig {
 
     @Value("${rabbitmq.reminder.queue}")
@@ -25,6 +36,24 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.reminder.routing-key}")
     private String reminderRoutingKey;
 
+    @Value("${rabbitmq.reminder.urgent-queue}")
+    private String urgentQueue;
+
+    @Value("${rabbitmq.reminder.urgent-routing-key}")
+    private String urgentRoutingKey;
+
+    @Value("${rabbitmq.reminder.retry-exchange}")
+    private String retryExchange;
+
+    @Value("${rabbitmq.reminder.dead-letter-exchange}")
+    private String deadLetterExchange;
+
+    @Value("${rabbitmq.reminder.dead-letter-queue}")
+    private String deadLetterQueue;
+
+    @Value("${reminder.retry.max-attempts:5}")
+    private int maxAttempts;
+
     @Bean
     public Queue queue() {
         return new Queue(reminderQueue, true);
@@ -40,6 +69,42 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(queue).to(exchange).with(reminderRoutingKey);
     }
 
+    // Urgent lane (High priority / due today), consumed by RabbitUrgentReminderListener with its own, larger concurrency
+    @Bean
+    public Queue urgentQueue() {
+        return new Queue(urgentQueue, true);
+    }
+
+    @Bean
+    public Binding urgentBinding(Queue urgentQueue, DirectExchange exchange) {
+        return BindingBuilder.bind(urgentQueue).to(exchange).with(urgentRoutingKey);
+    }
+
+    // Retry tiers (see RabbitReminderTransport): reminder-queue-retry-N holds the messages of failed attempt N, routed by the
+    // x-retry-tier header, until their per-message TTL expires. They are then dead-lettered to the reminder exchange with
+    // the routing key they were published with, i.e. back into their own lane. One queue per tier keeps messages with
+    // similar TTLs together (RabbitMQ only expires messages at the head of a queue).
+    @Bean
+    public Declarables reminderRetryTopology() {
+        HeadersExchange retry = new HeadersExchange(retryExchange);
+        FanoutExchange dlx = new FanoutExchange(deadLetterExchange);
+        Queue dlq = new Queue(deadLetterQueue, true);
+        List<Declarable> declarables = new ArrayList<>(List.of(retry, dlx, dlq, BindingBuilder.bind(dlq).to(dlx)));
+        // planned reminders (ReminderPacer) wait here for their delivery time; published in time order, so the
+        // head of the queue is always the next one due
+        Queue planned = QueueBuilder.durable(reminderQueue + "-planned").deadLetterExchange(reminderExchange).build();
+        declarables.add(planned);
+        declarables.add(BindingBuilder.bind(planned).to(retry).where("x-retry-tier").matches(RabbitReminderTransport.PLANNED_TIER));
+        for (int tier = 1; tier < maxAttempts; tier++) {
+            Queue queue = QueueBuilder.durable(reminderQueue + "-retry-" + tier)
+                    .deadLetterExchange(reminderExchange)
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(retry).where("x-retry-tier").matches(String.valueOf(tier)));
+        }
+        return new Declarables(declarables);
+    }
+
     // ✅ JSON converter for producer + consumer
     @Bean
     public Jackson2JsonMessageConverter jackson2JsonMessageConverter() {
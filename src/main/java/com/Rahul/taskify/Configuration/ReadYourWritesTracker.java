@@ -0,0 +1,54 @@
+package com.Rahul.taskify.Configuration;
+
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-your-writes for replica routing: after a user's write commits, that user's reads stay on the primary
+ * for {@code sticky-window}, long enough for the replicas to catch up.
+ * Writes are reported by {@link WriteTrackingDataSource}, so read-write transactions that change nothing
+ * (cache fills, login) do not pin. Keyed by the authenticated user name, so background jobs are never pinned.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.windowNanos = stickyWindow.toNanos();
+    }
+
+    // called once a write of the current thread is committed
+    void pinCurrentUser() {
+        String user = currentUser();
+        if (user != null) {
+            pinnedUntil.put(user, System.nanoTime() + windowNanos);
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(user);
+        return until != null && System.nanoTime() - until < 0;
+    }
+
+    // drops expired entries so the map only holds recently active writers
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.values().removeIf(until -> now - until >= 0);
+    }
+
+    @Nullable
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+}
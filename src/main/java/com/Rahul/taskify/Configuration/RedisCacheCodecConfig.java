@@ -0,0 +1,112 @@
+package com.Rahul.taskify.Configuration;
+
+import com.Rahul.taskify.Model.Task;
+import com.Rahul.taskify.dto.BoardColumn;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Value codec per Redis cache: {@code cache.codec.<cache>=jdk|json|smile}, else {@code cache.codec.default}.
+ * Entries of at least {@code cache.codec.compress-min-bytes} are LZ4-compressed (0 = never).
+ *
+ * smile needs the cache's value type in {@link #VALUE_TYPES}: it writes the fields only, no class names, which
+ * is what makes it small. Caches holding types Jackson cannot rebuild (e.g. tasksPaged's PageImpl) stay on jdk.
+ * Everything else about the caches (TTL, key prefix, null values) still comes from {@code spring.cache.redis.*}.
+ * Benchmarked against the other codecs in benchmark.CacheCodecBenchmark.
+ */
+@Profile("!prod")
+@Configuration
+public class RedisCacheCodecConfig {
+
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+
+    static final Map<String, JavaType> VALUE_TYPES = Map.of(
+            "tasks", TYPES.constructCollectionType(List.class, Task.class),
+            "task", TYPES.constructType(Task.class),
+            "taskDays", TYPES.constructCollectionType(List.class, Task.class),
+            "taskBoard", TYPES.constructCollectionType(List.class, BoardColumn.class)
+    );
+
+    @Value("${cache.codec.default:jdk}")
+    private String defaultCodec;
+
+    @Value("${cache.codec.compress-min-bytes:1024}")
+    private int compressMinBytes;
+
+    @Value("${spring.cache.cache-names:}")
+    private List<String> cacheNames;
+
+    private final Environment environment;
+    private final ClassLoader classLoader;
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+    public RedisCacheCodecConfig(Environment environment, ResourceLoader resourceLoader) {
+        this.environment = environment;
+        this.classLoader = resourceLoader.getClassLoader();
+    }
+
+    // default for caches created on the fly; configured from spring.cache.redis.* like Spring Boot does
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration(CacheProperties cacheProperties) {
+        CacheProperties.Redis redis = cacheProperties.getRedis();
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig(classLoader);
+        if (redis.getTimeToLive() != null) {
+            config = config.entryTtl(redis.getTimeToLive());
+        }
+        if (redis.getKeyPrefix() != null) {
+            config = config.prefixCacheNameWith(redis.getKeyPrefix());
+        }
+        if (!redis.isCacheNullValues()) {
+            config = config.disableCachingNullValues();
+        }
+        if (!redis.isUseKeyPrefix()) {
+            config = config.disableKeyPrefix();
+        }
+        return config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializerFor(null)));
+    }
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer cacheCodecCustomizer(RedisCacheConfiguration redisCacheConfiguration) {
+        return builder -> cacheNames.forEach(name -> builder.withCacheConfiguration(name,
+                redisCacheConfiguration.serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(serializerFor(name)))));
+    }
+
+    CompactCacheSerializer serializerFor(String cacheName) {
+        JavaType valueType = cacheName == null ? null : VALUE_TYPES.get(cacheName);
+        String codec = cacheName == null ? defaultCodec
+                : environment.getProperty("cache.codec." + cacheName, defaultCodec);
+        CacheCodec jdk = CacheCodec.jdk(classLoader);
+        CacheCodec json = CacheCodec.json();
+        List<CacheCodec> readers = valueType == null ? List.of(jdk, json)
+                : List.of(jdk, json, CacheCodec.smile(smileMapper, valueType));
+        CacheCodec writer = switch (codec) {
+            case "jdk" -> jdk;
+            case "json" -> json;
+            case "smile" -> {
+                if (valueType == null) {
+                    throw new IllegalStateException("cache.codec." + cacheName + "=smile needs the cache's value type "
+                            + "in RedisCacheCodecConfig.VALUE_TYPES");
+                }
+                yield readers.get(2);
+            }
+            default -> throw new IllegalStateException("Unknown cache codec '" + codec + "' for cache " + cacheName);
+        };
+        return new CompactCacheSerializer(cacheName == null ? "default" : cacheName, writer, readers, jdk, compressMinBytes);
+    }
+}
@@ -0,0 +1,125 @@
+package com.Rahul.taskify.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read replicas: @Transactional(readOnly = true) work goes to {@code app.datasource.replica.urls},
+ * the rest to the primary ({@code spring.datasource.*}). Off unless {@code app.datasource.replica.enabled=true}.
+ *
+ * Replicas share the primary's credentials unless {@code app.datasource.replica.username/password} are set.
+ * Lag is read with {@code lag-query}/{@code lag-column} (MySQL 8: SHOW REPLICA STATUS / Seconds_Behind_Source);
+ * an empty lag-query only checks that the replica answers, e.g. for two local H2 databases.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Value("${app.datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replica.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${app.datasource.replica.max-lag:5s}")
+    private Duration maxLag;
+
+    @Value("${app.datasource.replica.sticky-window:5s}")
+    private Duration stickyWindow;
+
+    @Value("${app.datasource.replica.lag-query:SHOW REPLICA STATUS}")
+    private String lagQuery;
+
+    @Value("${app.datasource.replica.lag-column:Seconds_Behind_Source}")
+    private String lagColumn;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(stickyWindow);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ReadYourWritesTracker readYourWritesTracker,
+                                                             MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrls.get(i).trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build();
+            replica.setPoolName(name);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.put(name, replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker, maxLag,
+                StringUtils.hasText(lagQuery) ? lagQuery : null, lagColumn, meterRegistry);
+    }
+
+    // What JPA / JdbcTemplate get: defers the physical connection until the read-only flag is known
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               ReadYourWritesTracker readYourWritesTracker) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, readYourWritesTracker);
+    }
+
+    public static class ReplicaLagMonitor {
+
+        private final ReplicaRoutingDataSource routingDataSource;
+        private final ReadYourWritesTracker readYourWritesTracker;
+
+        ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, ReadYourWritesTracker readYourWritesTracker) {
+            this.routingDataSource = routingDataSource;
+            this.readYourWritesTracker = readYourWritesTracker;
+        }
+
+        @Scheduled(initialDelay = 0, fixedDelayString = "${app.datasource.replica.check-interval:5s}")
+        public void check() {
+            routingDataSource.checkReplicas();
+            readYourWritesTracker.purgeExpired();
+        }
+    }
+}
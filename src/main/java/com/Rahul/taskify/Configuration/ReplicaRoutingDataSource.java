@@ -0,0 +1,164 @@
+package com.Rahul.taskify.Configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ *
+ * A read goes to the primary anyway when:
+ *  - the current user wrote something within the sticky window (read-your-writes, see {@link ReadYourWritesTracker})
+ *  - no replica is usable, i.e. unreachable or lagging more than {@code max-lag} at the last {@link #checkReplicas()}
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the connection is only fetched at the first statement,
+ * after the transaction manager has marked the transaction read-only.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWritesTracker readYourWrites;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter toPrimary;
+    private final Counter toReplica;
+    private final Counter pinned;
+    private final Counter fallback;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources,
+                                    ReadYourWritesTracker readYourWrites, Duration maxLag,
+                                    String lagQuery, String lagColumn, MeterRegistry meterRegistry) {
+        this.readYourWrites = readYourWrites;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+
+        DataSource trackedPrimary = new WriteTrackingDataSource(primary, readYourWrites);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, trackedPrimary);
+        replicaDataSources.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            Replica replica = new Replica(name, dataSource);
+            replicas.add(replica);
+            Gauge.builder("datasource.replica.usable", replica, r -> r.usable ? 1 : 0).tag("replica", name).register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds).tag("replica", name)
+                    .baseUnit("seconds").register(meterRegistry);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(trackedPrimary);
+        afterPropertiesSet();
+
+        this.toPrimary = Counter.builder("datasource.routing").tag("target", "primary").tag("reason", "write").register(meterRegistry);
+        this.pinned = Counter.builder("datasource.routing").tag("target", "primary").tag("reason", "read-your-writes").register(meterRegistry);
+        this.fallback = Counter.builder("datasource.routing").tag("target", "primary").tag("reason", "no-usable-replica").register(meterRegistry);
+        this.toReplica = Counter.builder("datasource.routing").tag("target", "replica").tag("reason", "read-only").register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            toPrimary.increment();
+            return PRIMARY;
+        }
+        if (readYourWrites.isPinnedToPrimary()) {
+            pinned.increment();
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.usable) {
+                toReplica.increment();
+                return replica.name;
+            }
+        }
+        fallback.increment();
+        return PRIMARY;
+    }
+
+    // Probes every replica; run periodically by ReplicaRoutingConfig.ReplicaLagMonitor
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasUsable = replica.usable;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.lagSeconds = measureLagSeconds(connection);
+                replica.usable = replica.lagSeconds >= 0 && replica.lagSeconds <= maxLag.toSeconds();
+            } catch (SQLException e) {
+                replica.lagSeconds = -1;
+                replica.usable = false;
+                log.debug("Replica {} check failed: {}", replica.name, e.getMessage());
+            }
+            if (wasUsable != replica.usable) {
+                log.warn("Replica {} is now {} (lag {} s, max {} s)", replica.name,
+                        replica.usable ? "in rotation" : "out of rotation", replica.lagSeconds, maxLag.toSeconds());
+            }
+        }
+    }
+
+    // seconds behind the primary, -1 when replication is not running / unknown
+    private long measureLagSeconds(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            return connection.isValid(2) ? 0 : -1;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return -1; // not configured as a replica
+            }
+            long lag = rs.getLong(lagColumn);
+            return rs.wasNull() ? -1 : lag;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.debug("Failed to close replica {}: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        // out of rotation until the first successful check
+        private volatile boolean usable;
+        private volatile long lagSeconds = -1;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
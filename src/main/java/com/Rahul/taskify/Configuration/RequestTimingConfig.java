@@ -0,0 +1,68 @@
+package com.Rahul.taskify.Configuration;
+
+import com.Rahul.taskify.Monitoring.QueryInspector;
+import com.Rahul.taskify.Monitoring.RequestTimings;
+import com.Rahul.taskify.Monitoring.TimedJacksonHttpMessageConverter;
+import com.Rahul.taskify.Monitoring.TimingCacheResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wires the per-request phase probes (see ServerTimingFilter):
+ * cache -> TimingCacheResolver, db -> repository invocation listener,
+ * json -> Jackson converter, sql count (+ N+1 detection) -> QueryInspector.
+ * auth and user lookup are timed in JwtAuthFilter / AuthUtil.
+ */
+@Configuration
+public class RequestTimingConfig implements CachingConfigurer {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public RequestTimingConfig(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public CacheResolver cacheResolver() {
+        return new TimingCacheResolver(cacheManager);
+    }
+
+    // replaces Spring Boot's default Jackson converter (same ObjectMapper)
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+
+    // Hibernate takes the inspector instance, so it can be a regular bean with config + metrics
+    @Bean
+    public HibernatePropertiesCustomizer queryInspectorCustomizer(QueryInspector queryInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryInspector);
+    }
+
+    // every Spring Data repository call adds its duration to the "db" phase
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(
+                            invocation -> RequestTimings.record(RequestTimings.DB, invocation.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+}
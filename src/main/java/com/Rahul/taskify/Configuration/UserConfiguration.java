@@ -59,10 +59,13 @@ public class UserConfiguration implements WebMvcConfigurer {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()      // <-- FIX
-                        .requestMatchers(HttpMethod.POST, "/api/tts/generate").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/tts/generate", "/api/tts/stream").permitAll()
                         .requestMatchers("/users/register", "/users/login").permitAll()
                         .requestMatchers("/users/refresh").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        // health status for probes (details only for ADMIN); metrics, Prometheus scraping, JFR need ADMIN
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .requestMatchers("/users/**").hasAnyRole("USER", "ADMIN")
                         .anyRequest().authenticated()
@@ -0,0 +1,93 @@
+package com.Rahul.taskify.Configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Only active in virtual-thread mode (spring.threads.virtual.enabled=true).
+ *
+ * Listens to the JDK's own jdk.VirtualThreadPinned JFR event in-process and reports every time a virtual
+ * thread blocks while pinned to its carrier (synchronized block, native frame) for longer than the threshold:
+ * a warning with the first application frames, plus a counter tagged by that frame so hot spots show up in metrics.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.Rahul.taskify.";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.virtual-threads.pinning.threshold:20ms}")
+    private Duration threshold;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        if (Runtime.version().feature() < 21) {
+            log.warn("spring.threads.virtual.enabled=true but running on Java {} - virtual threads need Java 21+, "
+                    + "platform threads are used instead", Runtime.version().feature());
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = "unknown";
+        StringBuilder frames = new StringBuilder();
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> stack = event.getStackTrace().getFrames();
+            for (RecordedFrame frame : stack) {
+                String method = frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+                if (method.startsWith(APP_PACKAGE)) {
+                    if ("unknown".equals(site)) {
+                        site = method;
+                    }
+                    frames.append("\n    at ").append(method).append(':').append(frame.getLineNumber());
+                }
+            }
+        }
+        Counter.builder("jvm.threads.virtual.pinned")
+                .tag("site", site)
+                .register(meterRegistry)
+                .increment();
+        log.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(),
+                frames.length() > 0 ? frames : " (no application frames)");
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+}
@@ -0,0 +1,134 @@
+package com.Rahul.taskify.Configuration;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Wraps the primary so {@link ReadYourWritesTracker} only pins a user whose transaction actually changed data:
+ * a connection remembers whether one of its statements ran an update (Hibernate flushes, @Modifying queries,
+ * JdbcTemplate alike) and pins the current user when that work commits. A read-write transaction that only
+ * reads, like a cache fill, does not pin anyone.
+ */
+class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> UPDATE_METHODS =
+            Set.of("executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final ReadYourWritesTracker readYourWrites;
+
+    WriteTrackingDataSource(DataSource primary, ReadYourWritesTracker readYourWrites) {
+        super(primary);
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    // a connection is used by one thread at a time, so the flag needs no synchronization
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private boolean wrote;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "commit":
+                    target.commit();
+                    if (wrote) {
+                        wrote = false;
+                        readYourWrites.pinCurrentUser();
+                    }
+                    return null;
+                case "rollback":
+                    if (args == null) {
+                        wrote = false; // a rollback to a savepoint keeps what came before it
+                    }
+                    break;
+                case "close":
+                    wrote = false;
+                    break;
+                default:
+            }
+            Object result = WriteTrackingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                return Proxy.newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[]{method.getReturnType()}, new StatementHandler(statement, this));
+            }
+            return result;
+        }
+
+        private void updated() throws SQLException {
+            if (target.getAutoCommit()) {
+                readYourWrites.pinCurrentUser(); // already committed
+            } else {
+                wrote = true;
+            }
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final ConnectionHandler connection;
+
+        private StatementHandler(Statement target, ConnectionHandler connection) {
+            this.target = target;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = WriteTrackingDataSource.invoke(target, method, args);
+            // execute() answers false when the statement produced an update count instead of a result set
+            if (UPDATE_METHODS.contains(method.getName())
+                    || (method.getName().equals("execute") && Boolean.FALSE.equals(result))) {
+                connection.updated();
+            }
+            return result;
+        }
+    }
+}
@@ -3,19 +3,26 @@ package com.Rahul.taskify.Controller;
 import com.Rahul.taskify.Model.Task;
 import com.Rahul.taskify.Model.User;
 import com.Rahul.taskify.Repository.UserRepository;
+import com.Rahul.taskify.Service.TaskBoardService;
+import com.Rahul.taskify.Service.TaskCalendarService;
 import com.Rahul.taskify.Service.TaskService;
+import com.Rahul.taskify.dto.BoardColumn;
+import com.Rahul.taskify.dto.CalendarDay;
+import com.Rahul.taskify.dto.FocusTask;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -29,6 +36,12 @@ public class TaskController {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    TaskCalendarService calendarService;
+
+    @Autowired
+    TaskBoardService boardService;
+
     /**
      * Create a new task.
      * Optional query parameter "userId" can be used by admins to create a task for a specific user.
@@ -234,4 +247,35 @@ public class TaskController {
         Page<Task> tasks = service.getAllTaskPaged(pageable);
         return ResponseEntity.ok(tasks);
     }
+
+    /**
+     * Calendar of the logged-in user's tasks: one entry per day from {@code from} to {@code to} (yyyy-MM-dd, inclusive),
+     * each with the tasks due that day. Free days are listed with an empty task list.
+     */
+    @GetMapping("/calendar")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<CalendarDay>> getCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(calendarService.getCalendar(from, to));
+    }
+
+    /**
+     * Kanban board of the logged-in user's tasks: every status column (Pending, In Progress, Completed, then any
+     * other status in use) with its first cards and its total count. Empty columns are included.
+     */
+    @GetMapping("/board")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<BoardColumn>> getBoard() {
+        return ResponseEntity.ok(boardService.getBoard());
+    }
+
+    /**
+     * "My Day": the logged-in user's most important open tasks, ranked by priority, due date and status.
+     */
+    @GetMapping("/focus")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<FocusTask>> getFocusTasks(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(service.getFocusTasks(limit));
+    }
 }
@@ -2,23 +2,50 @@ package com.Rahul.taskify.Controller;
 
 // Spring MVC imports
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 // Logging imports
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 // Service and DTO imports (verify paths)
+import com.Rahul.taskify.Model.User;
+import com.Rahul.taskify.Repository.UserRepository;
+import com.Rahul.taskify.Service.BriefingService;
 import com.Rahul.taskify.Service.ElevenLabsService;
+import com.Rahul.taskify.Service.TtsAudioCache;
+import com.Rahul.taskify.Service.TtsUnavailableException;
+import com.Rahul.taskify.Util.AuthUtil;
 import com.Rahul.taskify.dto.TtsRequest;
 
-// NO StreamingResponseBody, IO imports needed
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequestMapping("/api/tts")
@@ -26,57 +53,240 @@ import com.Rahul.taskify.dto.TtsRequest;
 public class TtsController {
 
     private static final Logger log = LoggerFactory.getLogger(TtsController.class);
+
+    // how many upstream chunks may be buffered ahead of a slow client before we stop requesting more
+    private static final int STREAM_PREFETCH = 8;
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofSeconds(30);
     private final ElevenLabsService elevenLabsService;
+    private final BriefingService briefingService;
+    private final UserRepository userRepository;
 
     // Constructor Injection
-    public TtsController(ElevenLabsService elevenLabsService) {
+    public TtsController(ElevenLabsService elevenLabsService, BriefingService briefingService, UserRepository userRepository) {
         this.elevenLabsService = elevenLabsService;
+        this.briefingService = briefingService;
+        this.userRepository = userRepository;
     }
 
-    // --- generateSpeech method returning byte[] (NON-STREAMING) ---
+    // --- generateSpeech method returning the (cached) clip, honouring Range requests ---
     @PostMapping("/generate")
-    public ResponseEntity<?> generateSpeech(@RequestBody TtsRequest request) { // Use ResponseEntity<?> for flexible error return
+    public ResponseEntity<StreamingResponseBody> generateSpeech(@RequestBody TtsRequest request,
+                                                                @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader) {
 
         log.info("--- TTS Controller (byte[]): Received POST /generate ---");
 
         if (request == null || request.getText() == null || request.getText().isBlank()) {
             log.warn("--- TTS Controller (byte[]): Bad request - Request body or text field is missing/blank. ---");
-            return ResponseEntity.badRequest()
+            throw new AudioError(ResponseEntity.badRequest()
                     .contentType(MediaType.TEXT_PLAIN)
-                    .body("Request text is missing."); // Return plain text error
+                    .body("Request text is missing.")); // Return plain text error
         }
 
         String textSnippet = request.getText().substring(0, Math.min(request.getText().length(), 50));
         log.info("--- TTS Controller (byte[]): Request Body Text (snippet): '{}' ---", textSnippet);
 
+        TtsAudioCache.CachedAudio audio;
         try {
-            log.info("--- TTS Controller (byte[]): Attempting to call elevenLabsService.generateSpeechAsBytes... ---");
-            // Calls the method in the service that blocks and returns byte[]
-            byte[] audioBytes = elevenLabsService.generateSpeechAsBytes(request.getText());
-
-            if (audioBytes == null || audioBytes.length == 0) {
-                log.warn("--- TTS Controller (byte[]): Service returned empty or null byte array. Check service logs for details. ---");
-                return ResponseEntity.internalServerError()
-                        .contentType(MediaType.TEXT_PLAIN)
-                        .body("Failed to generate audio data (empty response from service).");
+            log.info("--- TTS Controller (byte[]): Attempting to call elevenLabsService.getSpeech... ---");
+            // Served from the audio cache when possible, otherwise blocks on ElevenLabs and caches the result
+            audio = elevenLabsService.getSpeech(request.getText());
+        } catch (TtsUnavailableException e) { // Bulkhead full or circuit breaker open
+            log.warn("--- TTS Controller (byte[]): TTS unavailable: {} ---", e.getMessage());
+            throw unavailable(e);
+        } catch (Exception e) { // Catches exceptions from the service layer (e.g., API key error, ElevenLabs API error, blocking timeout)
+            log.error("--- TTS Controller (byte[]): Error during service call or processing: {} ---", e.getMessage(), e);
+            // Return a generic 500 error, including the exception message from the service
+            throw new AudioError(ResponseEntity.internalServerError()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body("Error generating speech: " + e.getMessage()));
+        }
+
+        if (audio == null || audio.getLength() == 0) {
+            log.warn("--- TTS Controller (byte[]): Service returned empty or null audio. Check service logs for details. ---");
+            throw new AudioError(ResponseEntity.internalServerError()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body("Failed to generate audio data (empty response from service)."));
+        }
+
+        log.info("--- TTS Controller (byte[]): Service returned {} bytes. Preparing OK response... ---", audio.getLength());
+        return audioResponse(audio, rangeHeader);
+    }
+
+    // --- briefing: today's tasks read aloud for the logged-in user ---
+    // Normally a cache hit: BriefingAudioScheduler pre-generates the same text off-peak.
+    @GetMapping("/briefing")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> getBriefing(@RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader) {
+        User user = AuthUtil.getCurrentUser(userRepository);
+        String text = briefingService.composeBriefing(user, briefingService.openTasksDueOn(user, briefingService.today()));
+
+        TtsAudioCache.CachedAudio audio;
+        try {
+            audio = elevenLabsService.getSpeech(text);
+        } catch (TtsUnavailableException e) {
+            throw unavailable(e);
+        }
+        if (audio == null || audio.getLength() == 0) {
+            throw new AudioError(ResponseEntity.internalServerError()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body("Failed to generate briefing audio."));
+        }
+        return audioResponse(audio, rangeHeader);
+    }
+
+    // --- streamSpeech: forwards audio chunks to the client as ElevenLabs produces them ---
+    // Playback can start at time-to-first-byte and the bounded prefetch gives backpressure. The Tomcat request
+    // thread is released, but the body still blocks one AsyncMvcConfig thread for the whole clip; when that pool and
+    // its queue are full the request gets a 503 (see onAsyncRejected).
+    @PostMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamSpeech(@RequestBody TtsRequest request,
+                                                              @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader) {
+
+        log.info("--- TTS Controller (stream): Received POST /stream ---");
+
+        if (request == null || request.getText() == null || request.getText().isBlank()) {
+            log.warn("--- TTS Controller (stream): Bad request - Request body or text field is missing/blank. ---");
+            throw new AudioError(ResponseEntity.badRequest()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body("Request text is missing."));
+        }
+
+        // Already generated once -> serve it like /generate (Range support)
+        TtsAudioCache.CachedAudio cached = elevenLabsService.getCachedSpeech(request.getText());
+        if (cached != null) {
+            return audioResponse(cached, rangeHeader);
+        }
+
+        Flux<byte[]> chunks = elevenLabsService.streamSpeech(request.getText())
+                .timeout(STREAM_IDLE_TIMEOUT);
+
+        StreamingResponseBody body = out -> {
+            // closing the stream cancels the upstream request if the client goes away mid-clip
+            try (Stream<byte[]> stream = chunks.toStream(STREAM_PREFETCH)) {
+                stream.forEach(chunk -> writeChunk(out, chunk));
             }
+        };
 
-            log.info("--- TTS Controller (byte[]): Service returned {} bytes. Preparing OK response... ---", audioBytes.length);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
+    }
 
-            // Return the complete byte array successfully
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM) // Correct MIME type for generic binary
-                    .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(audioBytes.length)) // Set Content-Length
-                    .body(audioBytes); // Set the byte array as the body
+    // async MVC pool full (AsyncMvcConfig): fail fast instead of queueing behind the running streams
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<String> onAsyncRejected(TaskRejectedException e, HttpServletResponse response) {
+        log.warn("--- TTS Controller: async pool full, rejecting: {} ---", e.getMessage());
+        if (!response.isCommitted()) {
+            response.reset(); // drop the audio headers (Content-Length, Content-Range) already set for the body
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body("Too many audio responses in progress, retry shortly.");
+    }
 
-        } catch (Exception e) { // Catches exceptions from the service layer (e.g., API key error, ElevenLabs API error, blocking timeout)
-            log.error("--- TTS Controller (byte[]): Error during service call or processing: {} ---", e.getMessage(), e);
-            // Return a generic 500 error, including the exception message from the service
-            return ResponseEntity.internalServerError()
+    @ExceptionHandler(AudioError.class)
+    public ResponseEntity<?> onAudioError(AudioError e) {
+        return e.response;
+    }
+
+    private static AudioError unavailable(TtsUnavailableException e) {
+        return new AudioError(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(e.getMessage()));
+    }
+
+    // Error responses of the audio endpoints. Thrown rather than returned: Spring only streams a
+    // StreamingResponseBody when the handler declares ResponseEntity<StreamingResponseBody>, not ResponseEntity<?>.
+    private static final class AudioError extends RuntimeException {
+        private final ResponseEntity<?> response;
+
+        private AudioError(ResponseEntity<?> response) {
+            super(null, null, false, false);
+            this.response = response;
+        }
+    }
+
+    private static void writeChunk(OutputStream out, byte[] chunk) {
+        try {
+            out.write(chunk);
+            out.flush(); // push each chunk to the client instead of waiting for the response buffer to fill
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Builds a 200 (full clip) or 206 (single byte range) response. Multi-range requests get the full clip,
+    // which RFC 9110 allows a server to do.
+    private ResponseEntity<StreamingResponseBody> audioResponse(TtsAudioCache.CachedAudio audio, String rangeHeader) {
+        long length = audio.getLength();
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+
+        if (rangeHeader != null && !rangeHeader.isBlank()) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    if (start >= length || start > end) {
+                        throw new IllegalArgumentException("Range not satisfiable");
+                    }
+                    partial = true;
+                }
+            } catch (IllegalArgumentException e) {
+                throw new AudioError(ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                        .build());
+            }
+        }
+
+        long count = end - start + 1;
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM) // Correct MIME type for generic binary
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(count));
+        if (partial) {
+            builder.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        if (!audio.isFile()) {
+            long offset = start;
+            return builder.body(out -> out.write(audio.getBytes(), (int) offset, (int) count));
+        }
+        // opened now, while the cache still protects the entry from eviction (see TtsAudioCache.evictFromDiskLocked);
+        // an open file stays readable (POSIX) even if it is evicted while the body is written
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(audio.getFile(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            log.warn("--- TTS Controller: cached clip {} vanished before it could be opened: {} ---", audio.getFile(), e.getMessage());
+            throw new AudioError(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
                     .contentType(MediaType.TEXT_PLAIN)
-                    .body("Error generating speech: " + e.getMessage());
+                    .body("Audio temporarily unavailable, retry."));
         }
+        return builder.body(fileBody(channel, start, count));
     }
 
-    
-}
\ No newline at end of file
+    // Disk hits: FileChannel.transferTo into the response stream. The servlet stream is not a file or socket
+    // channel, so the JDK copies through a small buffer; the clip is streamed, never loaded whole.
+    private StreamingResponseBody fileBody(FileChannel channel, long start, long count) {
+        return out -> {
+            try (channel) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = start;
+                long remaining = count;
+                while (remaining > 0) {
+                    long written = channel.transferTo(position, remaining, target);
+                    if (written <= 0) {
+                        break;
+                    }
+                    position += written;
+                    remaining -= written;
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.Rahul.taskify.Model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional outbox row: written in the same transaction as the change it describes,
+ * published afterwards by OutboxRelay (at-least-once, in id order per aggregate).
+ * Rows that failed {@code outbox.relay.max-attempts} times stay unpublished for inspection.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_unpublished", columnList = "published_at, id")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 32)
+    private String aggregateType; // Task, User
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 64)
+    private String eventType; // see DomainEvent constants
+
+    @Lob
+    @Column(nullable = false)
+    private String payload; // JSON
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt; // null = still to be relayed
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt; // set after a failed publish (backoff)
+
+    @Column(length = 500)
+    private String lastError;
+
+    public OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,30 @@
+package com.Rahul.taskify.Model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency record of a reminder email: one row per key ("task:<taskId>:<date>" / "digest:<userId>:<date>").
+ * Inserted before sending, so a redelivered or duplicated message finds it and is skipped.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "reminder_delivery")
+public class ReminderDelivery {
+
+    @Id
+    @Column(name = "delivery_key", length = 100)
+    private String deliveryKey;
+
+    @Column(name = "sent_at", nullable = false)
+    private LocalDateTime sentAt;
+}
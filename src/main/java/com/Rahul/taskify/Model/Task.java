@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @Data
 @JsonIdentityInfo(
         generator = ObjectIdGenerators.PropertyGenerator.class,
-        property = "id"
+        property = "id",
+        scope = Task.class // own id space: task 2 and user 2 in one document are different objects
 )
 public class Task implements Serializable {
 
@@ -63,6 +64,10 @@ public class Task implements Serializable {
     @Schema(accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDateTime updatedAt;  // Timestamp when the task was last updated
 
+    @JsonIgnore
+    @Column(name = "reminder_sent_for")
+    private LocalDateTime reminderSentFor; // dueDate the last reminder went out for (reminder.mode=wheel), survives restarts
+
     @PrePersist
     public void prePersist() {
         if (this.createdAt == null) {
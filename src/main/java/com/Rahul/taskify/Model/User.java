@@ -22,7 +22,8 @@ import java.util.Set;
 @Table(name = "users")
 @JsonIdentityInfo(
         generator = ObjectIdGenerators.PropertyGenerator.class,
-        property = "id"
+        property = "id",
+        scope = User.class // own id space, see Task
 )
 public class User implements Serializable {
 
@@ -44,6 +45,11 @@ public class User implements Serializable {
     @Column(nullable = false, unique = true)
     private String email;
 
+    // IANA zone id (e.g. "Europe/Berlin") for when reminders arrive; reminder.zone when not set
+    @Column(name = "time_zone", length = 64)
+    @Schema(example = "Europe/Berlin")
+    private String timeZone;
+
 
 
 
@@ -0,0 +1,19 @@
+package com.Rahul.taskify.Monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.Rahul.taskify.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"Taskify", "Security"})
+@StackTrace(false)
+public class AuthenticationEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Authenticated")
+    public boolean authenticated;
+}
@@ -0,0 +1,17 @@
+package com.Rahul.taskify.Monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.Rahul.taskify.CacheMiss")
+@Label("Cache Miss")
+@Category({"Taskify", "Cache"})
+class CacheMissEvent extends jdk.jfr.Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Key")
+    String key;
+}
@@ -0,0 +1,114 @@
+package com.Rahul.taskify.Monitoring;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-demand Java Flight Recorder sessions (admin only, see UserConfiguration).
+ *
+ *   GET    /actuator/jfr          -> recordings started here and their state
+ *   POST   /actuator/jfr          -> start: {"settings": "profile", "duration": "5m", "maxSize": "50MB"}
+ *   DELETE /actuator/jfr/{id}     -> stop (if still running) and download the .jfr file
+ *
+ * Besides the JDK events, recordings contain the Taskify events (TaskService calls, cache misses,
+ * JWT authentication, reminder consumption) under the "Taskify" category in JMC.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrEndpoint.class);
+
+    @Value("${app.jfr.max-duration:15m}")
+    private Duration maxDuration;
+
+    @Value("${app.jfr.max-size:100MB}")
+    private DataSize maxSize;
+
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    @ReadOperation
+    public List<Map<String, Object>> recordings() {
+        return recordings.values().stream().map(this::describe).toList();
+    }
+
+    // settings: a JDK configuration name ("default" ~1% overhead, "profile" ~2%)
+    @WriteOperation
+    public Map<String, Object> start(@Nullable String settings, @Nullable Duration duration, @Nullable DataSize maxSize) {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings == null ? "profile" : settings);
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings: " + settings, "Unknown JFR settings");
+        }
+        Duration limit = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        DataSize sizeLimit = maxSize == null || maxSize.compareTo(this.maxSize) > 0 ? this.maxSize : maxSize;
+
+        Recording recording = new Recording(configuration);
+        recording.setName("taskify-" + configuration.getName());
+        recording.setToDisk(true);
+        recording.setDuration(limit); // stops by itself, the data stays until it is downloaded
+        recording.setMaxSize(sizeLimit.toBytes());
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        log.info("JFR recording {} started with '{}' settings for at most {}", recording.getId(), configuration.getName(), limit);
+        return describe(recording);
+    }
+
+    @DeleteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> stop(@Selector long id) throws IOException {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile("taskify-" + id + "-", ".jfr");
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.dump(file);
+            log.info("JFR recording {} stopped, {} bytes", id, Files.size(file));
+            return new WebEndpointResponse<>(new ByteArrayResource(Files.readAllBytes(file)));
+        } finally {
+            recording.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Map<String, Object> describe(Recording recording) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("id", recording.getId());
+        info.put("name", recording.getName());
+        info.put("state", recording.getState());
+        info.put("startTime", recording.getStartTime());
+        info.put("duration", recording.getDuration());
+        info.put("size", recording.getSize());
+        return info;
+    }
+}
@@ -0,0 +1,112 @@
+package com.Rahul.taskify.Monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate {@link StatementInspector} that watches the SQL of each request (scope opened by {@link QueryInspectionFilter}):
+ *  - counts statements (also feeds the Server-Timing "db" description)
+ *  - flags N+1 patterns: the same statement shape executed {@code n-plus-one-threshold} times in one request,
+ *    typically an EAGER/lazy association loaded row by row
+ *  - flags requests issuing more than {@code max-statements} statements
+ *
+ * Shapes are the SQL with whitespace collapsed and IN-lists folded ({@code in (?...)}), i.e. what varies is only
+ * the bind parameters. Findings are logged and counted (hibernate.query.n-plus-one, hibernate.query.too-many);
+ * with {@code strict=true} (tests) they throw instead, failing the request.
+ */
+@Component
+public class QueryInspector implements StatementInspector {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryInspector.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+    private final int nPlusOneThreshold;
+    private final int maxStatements;
+    private final boolean strict;
+
+    private final DistributionSummary statementsPerRequest;
+    private final Counter nPlusOne;
+    private final Counter tooMany;
+
+    public QueryInspector(MeterRegistry meterRegistry,
+                          @Value("${app.query-inspector.n-plus-one-threshold:5}") int nPlusOneThreshold,
+                          @Value("${app.query-inspector.max-statements:50}") int maxStatements,
+                          @Value("${app.query-inspector.strict:false}") boolean strict) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.maxStatements = maxStatements;
+        this.strict = strict;
+        this.statementsPerRequest = DistributionSummary.builder("hibernate.statements.per.request")
+                .description("SQL statements issued while handling one request")
+                .register(meterRegistry);
+        this.nPlusOne = Counter.builder("hibernate.query.n-plus-one").register(meterRegistry);
+        this.tooMany = Counter.builder("hibernate.query.too-many").register(meterRegistry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestTimings.sqlStatement();
+        Scope scope = current.get();
+        if (scope != null) {
+            scope.statements++;
+            if (scope.statements == maxStatements + 1) {
+                report(tooMany, "too_many_statements label={} limit={}", scope.label, maxStatements);
+            }
+            String shape = shapeOf(sql);
+            int executions = scope.shapes.merge(shape, 1, Integer::sum);
+            if (executions == nPlusOneThreshold) {
+                report(nPlusOne, "n_plus_one label={} executions>={} sql=\"{}\"", scope.label, executions, shape);
+            }
+        }
+        return sql;
+    }
+
+    void open(String label) {
+        current.set(new Scope(label));
+    }
+
+    void close() {
+        Scope scope = current.get();
+        current.remove();
+        if (scope != null) {
+            statementsPerRequest.record(scope.statements);
+        }
+    }
+
+    static String shapeOf(String sql) {
+        String shape = IN_LIST.matcher(WHITESPACE.matcher(sql.trim()).replaceAll(" ")).replaceAll("(?...)");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+
+    private void report(Counter counter, String format, Object... args) {
+        counter.increment();
+        log.warn(format, args);
+        if (strict) {
+            throw new IllegalStateException("Query inspector (strict mode): " + format.split(" ")[0] + " in " + args[0]);
+        }
+    }
+
+    private static final class Scope {
+        private final String label;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int statements;
+
+        private Scope(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.Rahul.taskify.Monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code cache.size} for the Redis caches.
+ *
+ * Spring Boot's RedisCacheMetrics reports gets/puts/evictions but no size, because Redis can't count the keys
+ * of one cache cheaply. We SCAN for the {@code <cache>::*} prefix in the background every
+ * {@code cache.metrics.size-refresh} and publish the last count, so scrapes never touch Redis.
+ * With a non-Redis cache manager (prod / load test) Spring Boot's own cache.size is used and this does nothing.
+ */
+@Component
+public class RedisCacheSizeMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCacheSizeMetrics.class);
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<RedisConnectionFactory> connectionFactory;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> sizes = new ConcurrentHashMap<>();
+
+    private StringRedisTemplate redis;
+
+    public RedisCacheSizeMetrics(CacheManager cacheManager,
+                                 ObjectProvider<RedisConnectionFactory> connectionFactory,
+                                 MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.connectionFactory = connectionFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        RedisConnectionFactory factory = connectionFactory.getIfAvailable();
+        if (!(cacheManager instanceof RedisCacheManager) || factory == null) {
+            return;
+        }
+        redis = new StringRedisTemplate(factory);
+        for (String name : cacheManager.getCacheNames()) {
+            AtomicLong size = sizes.computeIfAbsent(name, n -> new AtomicLong());
+            Gauge.builder("cache.size", size, AtomicLong::get)
+                    .tag("cache", name)
+                    .tag("cacheManager", "cacheManager")
+                    .description("Number of keys in the Redis cache (refreshed periodically)")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.metrics.size-refresh:60s}", initialDelayString = "${cache.metrics.size-refresh:60s}")
+    public void refresh() {
+        if (redis == null) {
+            return;
+        }
+        sizes.forEach((name, size) -> {
+            try {
+                size.set(countKeys(name + "::*"));
+            } catch (RuntimeException e) {
+                log.debug("Could not count keys of cache {}: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    private long countKeys(String pattern) {
+        Long count = redis.execute((RedisCallback<Long>) connection -> {
+            long n = 0;
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(ScanOptions.scanOptions().match(pattern).count(500).build())) {
+                while (cursor.hasNext()) {
+                    cursor.next();
+                    n++;
+                }
+            }
+            return n;
+        });
+        return count == null ? 0 : count;
+    }
+}
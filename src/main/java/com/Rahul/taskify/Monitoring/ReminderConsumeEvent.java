@@ -0,0 +1,22 @@
+package com.Rahul.taskify.Monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.Rahul.taskify.ReminderConsume")
+@Label("Reminder Consumed")
+@Category({"Taskify", "Reminder"})
+@StackTrace(false)
+public class ReminderConsumeEvent extends jdk.jfr.Event {
+
+    @Label("Task Id")
+    public long taskId; // -1 for a digest
+
+    @Label("Tasks")
+    public int tasks;
+
+    @Label("Email Sent")
+    public boolean emailSent;
+}
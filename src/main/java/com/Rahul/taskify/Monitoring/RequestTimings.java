@@ -0,0 +1,135 @@
+package com.Rahul.taskify.Monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Phase timings of the current request (auth, user lookup, cache, db, serialization) plus SQL statement count.
+ *
+ * Bound to the request thread by {@link ServerTimingFilter}. All static probes are no-ops (one ThreadLocal read)
+ * when no request is being timed, so instrumented code can call them unconditionally.
+ * Phases may overlap: a cache miss includes the DB call that fills it, auth includes its user lookup.
+ */
+public final class RequestTimings {
+
+    public static final String AUTH = "auth";
+    public static final String USER_LOOKUP = "user";
+    public static final String CACHE = "cache";
+    public static final String DB = "db";
+    public static final String SERIALIZATION = "json";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Phase> phases = new LinkedHashMap<>(8);
+    private int sqlStatements;
+    private int cacheMisses;
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    // returns 0 when nothing is being timed, so stop() can skip the clock read as well
+    public static long start() {
+        return CURRENT.get() == null ? 0 : System.nanoTime();
+    }
+
+    public static void stop(String phase, long startNanos) {
+        if (startNanos == 0) {
+            return;
+        }
+        record(phase, System.nanoTime() - startNanos);
+    }
+
+    public static void record(String phase, long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.phases.computeIfAbsent(phase, p -> new Phase()).add(nanos);
+        }
+    }
+
+    public static void sqlStatement() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.sqlStatements++;
+        }
+    }
+
+    public static void cacheMiss() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.cacheMisses++;
+        }
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public int getSqlStatements() {
+        return sqlStatements;
+    }
+
+    // Server-Timing: auth;dur=1.2, db;dur=5.1;desc="3 calls, 4 sql", total;dur=9.8
+    String toServerTiming() {
+        StringBuilder header = new StringBuilder(128);
+        phases.forEach((name, phase) -> {
+            header.append(name).append(";dur=").append(millis(phase.nanos));
+            String desc = describe(name, phase);
+            if (desc != null) {
+                header.append(";desc=\"").append(desc).append('"');
+            }
+            header.append(", ");
+        });
+        return header.append("total;dur=").append(millis(elapsedNanos())).toString();
+    }
+
+    // key=value pairs for the slow-request log line
+    String toLogFields() {
+        StringBuilder fields = new StringBuilder(128);
+        fields.append("total_ms=").append(millis(elapsedNanos()));
+        phases.forEach((name, phase) -> fields.append(' ').append(name).append("_ms=").append(millis(phase.nanos))
+                .append(' ').append(name).append("_calls=").append(phase.count));
+        fields.append(" sql_statements=").append(sqlStatements);
+        fields.append(" cache_misses=").append(cacheMisses);
+        return fields.toString();
+    }
+
+    private String describe(String name, Phase phase) {
+        if (DB.equals(name)) {
+            return phase.count + " calls, " + sqlStatements + " sql";
+        }
+        if (CACHE.equals(name)) {
+            return phase.count + " ops, " + cacheMisses + " misses";
+        }
+        return null;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    private static final class Phase {
+        private long nanos;
+        private int count;
+
+        void add(long elapsed) {
+            nanos += elapsed;
+            count++;
+        }
+    }
+}
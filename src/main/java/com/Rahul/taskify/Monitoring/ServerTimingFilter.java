@@ -0,0 +1,71 @@
+package com.Rahul.taskify.Monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Times every request phase-by-phase (see {@link RequestTimings}) and reports it:
+ *  - as a {@code Server-Timing} response header when {@code app.request-timing.server-timing-header=true}
+ *    (the body is buffered for that, so TTS audio is left out)
+ *  - as one structured log line for requests slower than {@code app.request-timing.slow-threshold}
+ *
+ * With {@code app.request-timing.enabled=false} the filter is skipped entirely.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1) // right after CustomCorsFilter, before Spring Security
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    @Value("${app.request-timing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.request-timing.server-timing-header:false}")
+    private boolean serverTimingHeader;
+
+    @Value("${app.request-timing.slow-threshold:1s}")
+    private Duration slowThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        ContentCachingResponseWrapper buffered = serverTimingHeader && !isAudio(request)
+                ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            RequestTimings.end();
+            if (buffered != null) {
+                buffered.setHeader("Server-Timing", timings.toServerTiming());
+                buffered.copyBodyToResponse();
+            }
+            if (timings.elapsedNanos() >= slowThreshold.toNanos()) {
+                log.warn("slow_request method={} uri={} status={} {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), timings.toLogFields());
+            }
+        }
+    }
+
+    private boolean isAudio(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/api/tts/");
+    }
+}
@@ -0,0 +1,21 @@
+package com.Rahul.taskify.Monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.Rahul.taskify.TaskService")
+@Label("TaskService Call")
+@Category({"Taskify", "Service"})
+@Description("One call through the TaskService proxy, including caching")
+@StackTrace(false)
+class TaskServiceEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,39 @@
+package com.Rahul.taskify.Monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emits a {@link TaskServiceEvent} per public TaskService call. Runs outside the caching advice so a cache hit
+ * shows up as a short event. Costs next to nothing while no JFR recording is running.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TaskServiceJfrAspect {
+
+    @Around("execution(public * com.Rahul.taskify.Service.TaskService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        TaskServiceEvent event = new TaskServiceEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            event.failed = true;
+            throw t;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = joinPoint.getSignature().getName();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.Rahul.taskify.Monitoring;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache decorator that adds the time spent in the cache (Redis round trips + (de)serialization)
+ * to the current request's {@link RequestTimings#CACHE} phase, counts misses and emits a {@link CacheMissEvent}
+ * for each miss while a JFR recording is running.
+ */
+class TimedCache implements Cache {
+
+    private final Cache delegate;
+
+    TimedCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long start = RequestTimings.start();
+        try {
+            ValueWrapper value = delegate.get(key);
+            if (value == null) {
+                miss(key);
+            }
+            return value;
+        } finally {
+            RequestTimings.stop(RequestTimings.CACHE, start);
+        }
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        long start = RequestTimings.start();
+        try {
+            T value = delegate.get(key, type);
+            if (value == null) {
+                miss(key);
+            }
+            return value;
+        } finally {
+            RequestTimings.stop(RequestTimings.CACHE, start);
+        }
+    }
+
+    private void miss(Object key) {
+        RequestTimings.cacheMiss();
+        CacheMissEvent event = new CacheMissEvent();
+        if (event.shouldCommit()) {
+            event.cache = delegate.getName();
+            event.key = String.valueOf(key);
+            event.commit();
+        }
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long start = RequestTimings.start();
+        try {
+            return delegate.get(key, valueLoader);
+        } finally {
+            RequestTimings.stop(RequestTimings.CACHE, start);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long start = RequestTimings.start();
+        try {
+            delegate.put(key, value);
+        } finally {
+            RequestTimings.stop(RequestTimings.CACHE, start);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        long start = RequestTimings.start();
+        try {
+            return delegate.putIfAbsent(key, value);
+        } finally {
+            RequestTimings.stop(RequestTimings.CACHE, start);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        long start = RequestTimings.start();
+        try {
+            delegate.evict(key);
+        } finally {
+            RequestTimings.stop(RequestTimings.CACHE, start);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        long start = RequestTimings.start();
+        try {
+            return delegate.evictIfPresent(key);
+        } finally {
+            RequestTimings.stop(RequestTimings.CACHE, start);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long start = RequestTimings.start();
+        try {
+            delegate.clear();
+        } finally {
+            RequestTimings.stop(RequestTimings.CACHE, start);
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        long start = RequestTimings.start();
+        try {
+            return delegate.invalidate();
+        } finally {
+            RequestTimings.stop(RequestTimings.CACHE, start);
+        }
+    }
+}
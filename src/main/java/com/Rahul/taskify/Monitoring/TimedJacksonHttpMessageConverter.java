@@ -0,0 +1,44 @@
+package com.Rahul.taskify.Monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Spring Boot's Jackson converter, with request-body reads and response writes
+ * counted in the {@link RequestTimings#SERIALIZATION} phase.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        long start = RequestTimings.start();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            RequestTimings.stop(RequestTimings.SERIALIZATION, start);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = RequestTimings.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTimings.stop(RequestTimings.SERIALIZATION, start);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.Rahul.taskify.Monitoring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves @Cacheable/@CachePut/@CacheEvict caches like the default resolver, but hands out {@link TimedCache}
+ * decorators. The CacheManager bean itself stays undecorated, so Spring Boot still binds its cache metrics.
+ */
+public class TimingCacheResolver implements CacheResolver {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final Map<Cache, Cache> decorated = new ConcurrentHashMap<>();
+
+    public TimingCacheResolver(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        Collection<String> names = context.getOperation().getCacheNames();
+        List<Cache> caches = new ArrayList<>(names.size());
+        for (String name : names) {
+            Cache cache = cacheManager.getObject().getCache(name);
+            if (cache == null) {
+                throw new IllegalArgumentException("Cannot find cache named '" + name + "' for " + context.getOperation());
+            }
+            caches.add(decorated.computeIfAbsent(cache, TimedCache::new));
+        }
+        return caches;
+    }
+}
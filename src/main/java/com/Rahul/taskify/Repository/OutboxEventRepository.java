@@ -0,0 +1,34 @@
+package com.Rahul.taskify.Repository;
+
+import com.Rahul.taskify.Model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Oldest unpublished events that are due, row-locked so two relays never publish the same batch. Events waiting
+    // for a retry are not fetched, nor are the later events of their aggregate (per-task order holds), so a batch
+    // of backing-off events cannot stall the rows behind it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts " +
+            "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+            "AND NOT EXISTS (SELECT p.id FROM OutboxEvent p WHERE p.aggregateType = e.aggregateType " +
+            "AND p.aggregateId = e.aggregateId AND p.id < e.id AND p.publishedAt IS NULL " +
+            "AND p.attempts < :maxAttempts AND p.nextAttemptAt > :now) ORDER BY e.id")
+    List<OutboxEvent> lockNextBatch(int maxAttempts, LocalDateTime now, Pageable pageable);
+
+    long countByPublishedAtIsNullAndAttemptsLessThan(int maxAttempts);
+
+    long countByPublishedAtIsNullAndAttemptsGreaterThanEqual(int maxAttempts);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(LocalDateTime before);
+}
@@ -0,0 +1,23 @@
+package com.Rahul.taskify.Repository;
+
+import com.Rahul.taskify.Model.ReminderDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ReminderDeliveryRepository extends JpaRepository<ReminderDelivery, String> {
+
+    // plain INSERT (save() would merge): a duplicate key fails with DataIntegrityViolationException
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO reminder_delivery (delivery_key, sent_at) VALUES (:key, :sentAt)", nativeQuery = true)
+    void insert(String key, LocalDateTime sentAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReminderDelivery d WHERE d.sentAt < :before")
+    int deleteSentBefore(LocalDateTime before);
+}
@@ -2,9 +2,13 @@ package com.Rahul.taskify.Repository;
 
 import com.Rahul.taskify.Model.Task;
 import com.Rahul.taskify.Model.User;
+import com.Rahul.taskify.dto.BoardRow;
+import com.Rahul.taskify.dto.FocusTask;
+import com.Rahul.taskify.dto.ReminderSlot;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
@@ -45,4 +49,47 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByDueDateBetween(LocalDateTime startOfDay, LocalDateTime startOfNextDay);
 
     List<Task> findByDueDateBetweenAndAssignedTo(LocalDateTime startOfDay, LocalDateTime startOfNextDay, User user);
+
+    // Calendar: one user's tasks due in [start, end), both users fetched in the same query, soonest first
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignedTo u LEFT JOIN FETCH t.createdBy WHERE u.id = :userId " +
+            "AND t.dueDate >= :start AND t.dueDate < :end ORDER BY t.dueDate, t.id")
+    List<Task> findAssignedDueBetween(Long userId, LocalDateTime start, LocalDateTime end);
+
+    // Focus view: one user's open tasks, just the ranking fields
+    @Query("SELECT new com.Rahul.taskify.dto.FocusTask(t.id, t.title, t.dueDate, t.priority, t.status) FROM Task t " +
+            "WHERE t.assignedTo.id = :userId AND t.completed = false")
+    List<FocusTask> findOpenFocusTasks(Long userId);
+
+    // Board: the first perColumn tasks of each status column (soonest due first, undated last) with the column's
+    // size, for one user in a single statement; tasks without a status count as Pending
+    @Query(value = "SELECT id, title, due_date AS dueDate, priority, status, total FROM (" +
+            "SELECT t.id, t.title, t.due_date, t.priority, COALESCE(t.status, 'Pending') AS status, " +
+            "ROW_NUMBER() OVER (PARTITION BY COALESCE(t.status, 'Pending') " +
+            "ORDER BY CASE WHEN t.due_date IS NULL THEN 1 ELSE 0 END, t.due_date, t.id) AS rn, " +
+            "COUNT(*) OVER (PARTITION BY COALESCE(t.status, 'Pending')) AS total " +
+            "FROM task t WHERE t.assigned_to = :userId) ranked WHERE rn <= :perColumn ORDER BY status, rn",
+            nativeQuery = true)
+    List<BoardRow> findBoardRows(Long userId, int perColumn);
+
+    // Reminder scan: open tasks due in [start, end) with their assignee, grouped by assignee and soonest first
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignedTo u WHERE t.completed = false AND t.dueDate >= :start AND t.dueDate < :end " +
+            "ORDER BY u.id, t.dueDate")
+    List<Task> findOpenDueBetween(LocalDateTime start, LocalDateTime end);
+
+    // Same, limited to assignees in one time zone (includeUnset: also users without a time zone)
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignedTo u WHERE t.completed = false AND t.dueDate >= :start AND t.dueDate < :end " +
+            "AND (u.timeZone = :zone OR (:includeUnset = true AND u.timeZone IS NULL)) ORDER BY u.id, t.dueDate")
+    List<Task> findOpenDueBetweenInZone(LocalDateTime start, LocalDateTime end, String zone, boolean includeUnset);
+
+    // Reminder timing wheel: open, assigned tasks due in [start, end) whose reminder has not gone out for that due date
+    @Query("SELECT new com.Rahul.taskify.dto.ReminderSlot(t.id, t.dueDate) FROM Task t WHERE t.completed = false " +
+            "AND t.assignedTo IS NOT NULL AND t.dueDate >= :start AND t.dueDate < :end " +
+            "AND (t.reminderSentFor IS NULL OR t.reminderSentFor <> t.dueDate) ORDER BY t.dueDate")
+    List<ReminderSlot> findPendingReminders(LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    // Claims the reminder for this due date; 0 when it was already sent or the due date changed meanwhile
+    @Modifying
+    @Query("UPDATE Task t SET t.reminderSentFor = :dueDate WHERE t.id = :id AND t.dueDate = :dueDate " +
+            "AND (t.reminderSentFor IS NULL OR t.reminderSentFor <> :dueDate)")
+    int markReminderSent(Long id, LocalDateTime dueDate);
 }
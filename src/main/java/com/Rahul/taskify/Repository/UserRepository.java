@@ -6,12 +6,18 @@ package com.Rahul.taskify.Repository;
 
 import com.Rahul.taskify.Model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 // user here is the name of table which is User(as we used @Entity in user class) and long is the type of Primary class
 public interface UserRepository extends JpaRepository<User,Long> {
 
     Optional<User> findByUserName(String userName);
+
+    // time zones users picked for their reminders
+    @Query("SELECT DISTINCT u.timeZone FROM User u WHERE u.timeZone IS NOT NULL")
+    List<String> findDistinctTimeZones();
 }
 
 
@@ -1,6 +1,8 @@
 package com.Rahul.taskify.Security;
 
 import com.Rahul.taskify.JwUtil;
+import com.Rahul.taskify.Monitoring.AuthenticationEvent;
+import com.Rahul.taskify.Monitoring.RequestTimings;
 import com.Rahul.taskify.Service.CustomUserDetailService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
@@ -50,11 +52,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         // ✅ For all other requests, check token
         String token = extractToken(request);
         if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            long authStart = RequestTimings.start();
+            AuthenticationEvent authEvent = new AuthenticationEvent();
+            authEvent.begin();
             try {
                 authenticateUser(token, request);
             } catch (JwtException e) {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or Expired JWT Token");
                 return;
+            } finally {
+                RequestTimings.stop(RequestTimings.AUTH, authStart);
+                authEvent.end();
+                if (authEvent.shouldCommit()) {
+                    authEvent.path = path;
+                    authEvent.authenticated = SecurityContextHolder.getContext().getAuthentication() != null;
+                    authEvent.commit();
+                }
             }
         }
 
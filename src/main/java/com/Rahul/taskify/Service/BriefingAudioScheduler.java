@@ -0,0 +1,129 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Model.Task;
+import com.Rahul.taskify.Model.User;
+import com.Rahul.taskify.Repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// Pre-generates every user's daily briefing audio off-peak so the morning request is a TTS cache hit
+// instead of a latency + quota spike. Sits next to ReminderScheduler and shares its zone.
+@Component
+public class BriefingAudioScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(BriefingAudioScheduler.class);
+
+    private final TaskRepository taskRepository;
+    private final BriefingService briefingService;
+    private final ElevenLabsService elevenLabsService;
+
+    @Value("${tts.briefing.enabled:true}")
+    private boolean enabled;
+
+    // upstream quota is shared with interactive traffic, so the batch trickles out at a fixed rate
+    @Value("${tts.briefing.rate-per-minute:20}")
+    private int ratePerMinute;
+
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final Counter generated;
+    private final Counter alreadyCached;
+    private final Counter failed;
+    private final Timer generationTimer;
+
+    private volatile Disposable currentRun;
+
+    public BriefingAudioScheduler(TaskRepository taskRepository, BriefingService briefingService,
+                                  ElevenLabsService elevenLabsService, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.briefingService = briefingService;
+        this.elevenLabsService = elevenLabsService;
+
+        Gauge.builder("tts.briefing.backlog", backlog, AtomicInteger::get).register(meterRegistry);
+        this.generated = Counter.builder("tts.briefing.generated").tag("result", "generated").register(meterRegistry);
+        this.alreadyCached = Counter.builder("tts.briefing.generated").tag("result", "cached").register(meterRegistry);
+        this.failed = Counter.builder("tts.briefing.generated").tag("result", "failed").register(meterRegistry);
+        this.generationTimer = Timer.builder("tts.briefing.generation").register(meterRegistry);
+    }
+
+    // Runs before users wake up (default 04:30 in reminder.zone)
+    @Scheduled(cron = "${tts.briefing.cron:0 30 4 * * *}", zone = "${reminder.zone}")
+    public void pregenerateBriefings() {
+        if (!enabled) {
+            return;
+        }
+        if (currentRun != null && !currentRun.isDisposed()) {
+            log.warn("🎧 Previous briefing pre-generation still running ({} left), skipping this run", backlog.get());
+            return;
+        }
+
+        LocalDate today = briefingService.today();
+        List<Task> dueToday = taskRepository.findByDueDateBetween(today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+
+        // one briefing per assignee, built from the same text the /api/tts/briefing endpoint composes
+        Map<Long, List<Task>> byUser = dueToday.stream()
+                .filter(task -> !task.isCompleted() && task.getAssignedTo() != null)
+                .collect(Collectors.groupingBy(task -> task.getAssignedTo().getId(), LinkedHashMap::new, Collectors.toList()));
+        List<String> briefings = byUser.values().stream()
+                .map(tasks -> {
+                    User user = tasks.get(0).getAssignedTo();
+                    return briefingService.composeBriefing(user, tasks);
+                })
+                .toList();
+
+        backlog.set(briefings.size());
+        log.info("🎧 Pre-generating {} daily briefings at {} per minute", briefings.size(), ratePerMinute);
+
+        long startedAt = System.nanoTime();
+        Duration interval = Duration.ofMillis(60_000L / Math.max(1, ratePerMinute));
+        currentRun = Flux.fromIterable(briefings)
+                .delayElements(interval)
+                .concatMap(this::pregenerate)
+                .doFinally(signal -> {
+                    double minutes = Math.max(Duration.ofNanos(System.nanoTime() - startedAt).toMillis() / 60_000.0, 1e-3);
+                    log.info("🎧 Briefing pre-generation finished ({}): {} briefings, {} left unprocessed, {}/min",
+                            signal, briefings.size(), backlog.get(), String.format("%.1f", briefings.size() / minutes));
+                    backlog.set(0);
+                })
+                .subscribe();
+    }
+
+    private Mono<Void> pregenerate(String text) {
+        if (elevenLabsService.getCachedSpeech(text) != null) {
+            alreadyCached.increment();
+            backlog.decrementAndGet();
+            return Mono.empty();
+        }
+        Timer.Sample sample = Timer.start();
+        // streamSpeech stores the finished clip in the audio cache
+        return elevenLabsService.streamSpeech(text)
+                .then()
+                .doOnSuccess(ignored -> {
+                    sample.stop(generationTimer);
+                    generated.increment();
+                })
+                .onErrorResume(error -> {
+                    failed.increment();
+                    log.warn("🎧 Failed to pre-generate a briefing: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> backlog.decrementAndGet());
+    }
+}
@@ -0,0 +1,62 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Model.Task;
+import com.Rahul.taskify.Model.User;
+import com.Rahul.taskify.Repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+
+// Builds the spoken "daily briefing" for a user.
+// The text must be deterministic for a given user + day: BriefingAudioScheduler pre-generates the audio
+// for exactly this text, and the morning request only hits the TTS cache if it composes the same string.
+@Service
+public class BriefingService {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Value("${reminder.zone}")
+    private String zone;
+
+    public LocalDate today() {
+        return LocalDate.now(ZoneId.of(zone));
+    }
+
+    public List<Task> openTasksDueOn(User user, LocalDate day) {
+        return taskRepository.findByDueDateBetweenAndAssignedTo(day.atStartOfDay(), day.plusDays(1).atStartOfDay(), user)
+                .stream()
+                .filter(task -> !task.isCompleted())
+                .toList();
+    }
+
+    public String composeBriefing(User user, List<Task> tasksDueToday) {
+        List<Task> ordered = tasksDueToday.stream()
+                .sorted(Comparator.comparing(Task::getDueDate).thenComparing(Task::getId))
+                .toList();
+
+        StringBuilder text = new StringBuilder("Good morning, ").append(user.getUserName()).append(". ");
+        if (ordered.isEmpty()) {
+            return text.append("You have no tasks due today.").toString();
+        }
+
+        text.append("You have ").append(ordered.size()).append(ordered.size() == 1 ? " task" : " tasks").append(" due today. ");
+        int number = 1;
+        for (Task task : ordered) {
+            text.append(number++).append(". ").append(task.getTitle());
+            if (task.getPriority() != null) {
+                text.append(", ").append(task.getPriority()).append(" priority");
+            }
+            text.append(", due at ").append(task.getDueDate().format(TIME)).append(". ");
+        }
+        return text.toString().trim();
+    }
+}
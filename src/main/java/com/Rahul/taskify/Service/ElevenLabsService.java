@@ -13,10 +13,26 @@ import org.springframework.web.reactive.function.client.WebClient;
 // Required Reactor Core imports
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 // Required for Map creation
 import java.util.Map;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 // Required for RuntimeException
 import java.lang.RuntimeException;
 
@@ -34,12 +50,44 @@ public class ElevenLabsService { // No DisposableBean needed
     @Value("${elevenlabs.voice.id}")
     private String voiceId;
 
+    @Value("${elevenlabs.model.id:eleven_monolingual_v1}")
+    private String modelId;
+
+    @Value("${elevenlabs.voice.stability:0.5}")
+    private double stability;
+
+    @Value("${elevenlabs.voice.similarity-boost:0.5}")
+    private double similarityBoost;
+
+    // Long texts are split at sentence boundaries and the pieces synthesized concurrently
+    @Value("${tts.chunking.threshold-chars:400}")
+    private int chunkingThresholdChars;
+
+    @Value("${tts.chunking.max-chunk-chars:300}")
+    private int maxChunkChars;
+
+    @Value("${tts.chunking.parallelism:3}")
+    private int chunkParallelism;
+
+    private final TtsAudioCache audioCache;
+    private final TtsBulkhead bulkhead;
+    private final TtsCircuitBreaker circuitBreaker;
+
+    // Identical texts requested while a synthesis is already running share that one upstream call
+    private final Map<String, Flux<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
     // ExecutorService is NOT needed for this byte[] approach
 
-    public ElevenLabsService(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder
-                .baseUrl("https://api.elevenlabs.io/v1")
-                .build();
+    // elevenLabsWebClient comes from ElevenLabsClientConfig (own connection pool, configurable base url)
+    public ElevenLabsService(WebClient elevenLabsWebClient, TtsAudioCache audioCache,
+                             TtsBulkhead bulkhead, TtsCircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.webClient = elevenLabsWebClient;
+        this.audioCache = audioCache;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.coalesced = Counter.builder("elevenlabs.requests.coalesced").register(meterRegistry);
+        Gauge.builder("elevenlabs.requests.in-flight", inFlight, Map::size).register(meterRegistry);
     }
 
     // --- PRIVATE: Performs the reactive WebClient call ---
@@ -56,10 +104,10 @@ public class ElevenLabsService { // No DisposableBean needed
         // Use the model and settings confirmed to work previously or default ones
         Map<String, Object> requestBody = Map.of(
                 "text", textToSpeak,
-                "model_id", "eleven_monolingual_v1",
+                "model_id", modelId,
                 "voice_settings", Map.of(
-                        "stability", 0.5,
-                        "similarity_boost", 0.5
+                        "stability", stability,
+                        "similarity_boost", similarityBoost
                 )
         );
 
@@ -84,24 +132,162 @@ public class ElevenLabsService { // No DisposableBean needed
                 .doOnError(error -> log.error("Error received in ElevenLabs Flux stream: {}", error.getMessage()));
     }
 
-    // --- PUBLIC: Returns collected byte array (BLOCKING!) ---
+    // --- PUBLIC: Cache key for a piece of text with the currently configured voice ---
+    public String cacheKeyFor(String textToSpeak) {
+        return audioCache.keyFor(textToSpeak, voiceId, modelId, stability, similarityBoost);
+    }
+
+    // --- PUBLIC: Cache lookup only, never calls the API ---
+    public TtsAudioCache.CachedAudio getCachedSpeech(String textToSpeak) {
+        return audioCache.get(cacheKeyFor(textToSpeak));
+    }
+
+    // --- PUBLIC: Streams audio chunks as ElevenLabs produces them (NON-BLOCKING) ---
+    // Concurrent requests for the same text join the synthesis already in flight (late joiners get the
+    // chunks produced so far replayed), so a burst of identical requests costs one upstream call.
+    // Texts longer than tts.chunking.threshold-chars are synthesized sentence-chunk by sentence-chunk in parallel.
+    public Flux<byte[]> streamSpeech(String textToSpeak) {
+        String key = cacheKeyFor(textToSpeak);
+        return Flux.defer(() -> {
+            boolean[] created = new boolean[1];
+            Flux<byte[]> shared = inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                AtomicReference<Flux<byte[]>> self = new AtomicReference<>();
+                Flux<byte[]> flux = cachingOnComplete(k, synthesize(textToSpeak))
+                        .doFinally(signal -> inFlight.remove(k, self.get()))
+                        .replay()
+                        .refCount();
+                self.set(flux);
+                return flux;
+            });
+            if (!created[0]) {
+                coalesced.increment();
+                log.info("--- streamSpeech: joined in-flight synthesis for identical text ---");
+            }
+            return shared;
+        });
+    }
+
+    // --- PRIVATE: Picks single-call or chunked synthesis ---
+    private Flux<byte[]> synthesize(String textToSpeak) {
+        List<String> chunks = textToSpeak.length() > chunkingThresholdChars
+                ? splitIntoSentenceChunks(textToSpeak, maxChunkChars)
+                : List.of(textToSpeak);
+        if (chunks.size() <= 1) {
+            return guardedUpstream(textToSpeak);
+        }
+
+        log.info("--- synthesize: {} chars split into {} chunks (parallelism {}) ---",
+                textToSpeak.length(), chunks.size(), chunkParallelism);
+        // flatMapSequential runs up to chunkParallelism syntheses at once but emits strictly in order:
+        // chunk 1 streams as soon as it arrives, later chunks are held back until every earlier one is done.
+        // Each chunk goes through streamSpeech itself, so repeated sentences are cached and coalesced too.
+        return Flux.fromIterable(chunks)
+                .flatMapSequential(this::cachedOrStreamed, chunkParallelism);
+    }
+
+    private Flux<byte[]> cachedOrStreamed(String chunkText) {
+        TtsAudioCache.CachedAudio cached = audioCache.get(cacheKeyFor(chunkText));
+        if (cached == null) {
+            return streamSpeech(chunkText);
+        }
+        if (!cached.isFile()) {
+            return Flux.just(cached.getBytes());
+        }
+        return Mono.fromCallable(() -> Files.readAllBytes(cached.getFile()))
+                .subscribeOn(Schedulers.boundedElastic()) // file read off the event loop
+                .flux();
+    }
+
+    // --- Splits text into chunks of whole sentences, each at most maxChars long where possible ---
+    // A single sentence longer than maxChars is kept whole rather than cut mid-sentence.
+    static List<String> splitIntoSentenceChunks(String text, int maxChars) {
+        BreakIterator sentences = BreakIterator.getSentenceInstance(Locale.ENGLISH);
+        sentences.setText(text);
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int start = sentences.first();
+        for (int end = sentences.next(); end != BreakIterator.DONE; start = end, end = sentences.next()) {
+            String sentence = text.substring(start, end);
+            if (current.length() > 0 && current.length() + sentence.length() > maxChars) {
+                chunks.add(current.toString().trim());
+                current.setLength(0);
+            }
+            current.append(sentence);
+        }
+        if (!current.toString().isBlank()) {
+            chunks.add(current.toString().trim());
+        }
+        return chunks;
+    }
+
+    // --- PRIVATE: Assembles the clip on the side and caches it once the stream completes ---
+    private Flux<byte[]> cachingOnComplete(String key, Flux<byte[]> audio) {
+        return Flux.defer(() -> {
+            ByteArrayOutputStream collected = new ByteArrayOutputStream();
+            return audio
+                    .doOnNext(chunk -> collected.write(chunk, 0, chunk.length))
+                    .doOnComplete(() -> audioCache.put(key, collected.toByteArray()));
+        });
+    }
+
+    // --- PRIVATE: One upstream synthesis behind the circuit breaker and bulkhead ---
+    // Each chunk is copied out of the network buffer once and the buffer released straight away.
+    private Flux<byte[]> guardedUpstream(String textToSpeak) {
+        Flux<byte[]> call = Flux.defer(() -> getSpeechFluxFromApi(textToSpeak)
+                .map(dataBuffer -> {
+                    byte[] chunk = new byte[dataBuffer.readableByteCount()];
+                    dataBuffer.read(chunk);
+                    DataBufferUtils.release(dataBuffer);
+                    return chunk;
+                }));
+        return circuitBreaker.protect(bulkhead.limit(call));
+    }
+
+    // --- PUBLIC: Returns the audio from the cache, generating (and caching) it on a miss ---
     // This is the method the non-streaming Controller will call
+    public TtsAudioCache.CachedAudio getSpeech(String textToSpeak) {
+        String key = cacheKeyFor(textToSpeak);
+        TtsAudioCache.CachedAudio cached = audioCache.get(key);
+        if (cached != null) {
+            log.info("--- getSpeech: TTS cache hit ({} bytes, {}) ---", cached.getLength(), cached.isFile() ? "disk" : "memory");
+            return cached;
+        }
+
+        // goes through streamSpeech, which also stores the clip in the cache
+        byte[] audio = fetchSpeechBytes(textToSpeak);
+        if (audio == null) {
+            return null;
+        }
+        return TtsAudioCache.CachedAudio.ofBytes(audio);
+    }
+
+    // --- PUBLIC: Returns collected byte array, cached when possible ---
     public byte[] generateSpeechAsBytes(String textToSpeak) {
-        log.info("--- generateSpeechAsBytes: Calling API and collecting bytes (BLOCKING operation started) ---");
-        Flux<DataBuffer> dataBufferFlux = getSpeechFluxFromApi(textToSpeak);
+        TtsAudioCache.CachedAudio audio = getSpeech(textToSpeak);
+        if (audio == null) {
+            return null;
+        }
+        if (!audio.isFile()) {
+            return audio.getBytes();
+        }
+        try {
+            return Files.readAllBytes(audio.getFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read cached audio: " + e.getMessage(), e);
+        }
+    }
 
-        // Join the Flux<DataBuffer> into a single DataBuffer (Mono<DataBuffer>)
-        // Then map that DataBuffer to a byte[]
-        Mono<byte[]> monoBytes = DataBufferUtils.join(dataBufferFlux)
-                .map(dataBuffer -> {
-                    // This map operation happens *after* join completes
-                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(bytes); // Read bytes from the joined buffer
-                    DataBufferUtils.release(dataBuffer); // Release the joined buffer
-                    log.debug("--- generateSpeechAsBytes: Mapped joined DataBuffer to byte array ---");
-                    return bytes;
-                })
-                .doOnError(error -> log.error("--- generateSpeechAsBytes: Error during DataBuffer join/map: {}", error.getMessage(), error)); // Log errors during join/map
+    // --- PRIVATE: Calls the API and collects the byte array (BLOCKING!) ---
+    private byte[] fetchSpeechBytes(String textToSpeak) {
+        log.info("--- fetchSpeechBytes: Calling API and collecting bytes (BLOCKING operation started) ---");
+        // Same (coalesced, bulkheaded) upstream stream as /stream, joined into one array
+        Mono<byte[]> monoBytes = streamSpeech(textToSpeak)
+                .collect(ByteArrayOutputStream::new, (out, chunk) -> out.write(chunk, 0, chunk.length))
+                .filter(out -> out.size() > 0)
+                .map(ByteArrayOutputStream::toByteArray)
+                .doOnError(error -> log.error("--- fetchSpeechBytes: Error while collecting audio chunks: {}", error.getMessage(), error)); // Log errors during collect
 
 
         // Block the Mono to get the result synchronously.
@@ -112,8 +298,10 @@ public class ElevenLabsService { // No DisposableBean needed
             // Use blockOptional for better handling of empty streams, with a timeout
             resultBytes = monoBytes.blockOptional(java.time.Duration.ofSeconds(30)) // e.g., 30 second timeout
                     .orElse(null); // Return null if timeout or empty
+        } catch (TtsUnavailableException e) {
+            throw e; // refused locally (bulkhead / breaker), let the controller answer 503
         } catch (Exception e) {
-            log.error("--- generateSpeechAsBytes: Exception during .blockOptional(): {} ---", e.getMessage(), e);
+            log.error("--- fetchSpeechBytes: Exception during .blockOptional(): {} ---", e.getMessage(), e);
             // Rethrow or handle as appropriate, maybe return null or throw custom exception
             // For simplicity, letting it propagate or returning null if caught
             throw new RuntimeException("Failed to get audio bytes within timeout or due to error: " + e.getMessage(), e);
@@ -121,9 +309,9 @@ public class ElevenLabsService { // No DisposableBean needed
 
 
         if (resultBytes == null) {
-            log.warn("--- generateSpeechAsBytes: Finished collecting, but result is null (potentially empty stream or timeout). ---");
+            log.warn("--- fetchSpeechBytes: Finished collecting, but result is null (potentially empty stream or timeout). ---");
         } else {
-            log.info("--- generateSpeechAsBytes: Finished collecting ({} bytes). Returning. ---", resultBytes.length);
+            log.info("--- fetchSpeechBytes: Finished collecting ({} bytes). Returning. ---", resultBytes.length);
         }
         return resultBytes;
     }
@@ -3,11 +3,17 @@ package com.Rahul.taskify.Service;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Profile;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 
 @Service
 public class EmailService {
@@ -15,15 +21,48 @@ public class EmailService {
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @Value("${mail.dispatch.send-timeout:60s}")
+    private Duration sendTimeout;
+
+    // Queues the email on the pooled SMTP connections and returns right away
+    public CompletableFuture<Void> sendEmailAsync(String to, String subject, String body) throws MessagingException {
+        return mailDispatcher.submit(createMessage(to, subject, body));
+    }
+
+    // Same, but waits until the SMTP server accepted it (callers that retry or count failures). On timeout a message
+    // still queued is withdrawn (MessagingException, not sent); one already with a worker gives MailOutcomeUnknownException
     public void sendEmail(String to, String subject, String body) throws MessagingException {
+        CompletableFuture<Void> sent = sendEmailAsync(to, subject, body);
+        try {
+            sent.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MessagingException messagingException) {
+                throw messagingException;
+            }
+            throw new MessagingException("Email to " + to + " failed: " + e.getCause().getMessage(),
+                    e.getCause() instanceof Exception cause ? cause : e);
+        } catch (TimeoutException e) {
+            if (mailDispatcher.withdraw(sent)) {
+                throw new MessagingException("Email to " + to + " not sent within " + sendTimeout + ", withdrawn");
+            }
+            // a worker is sending it right now: it may still go out, so it must not be retried as a failure
+            throw new MailOutcomeUnknownException("Email to " + to + " still being sent after " + sendTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while sending email to " + to);
+        }
+    }
+
+    private MimeMessage createMessage(String to, String subject, String body) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
 
         MimeMessageHelper helper = new MimeMessageHelper(message, true);
         helper.setTo(to);
         helper.setSubject(subject);
         helper.setText(body, true); // true = HTML
-
-        mailSender.send(message);
+        return message;
     }
 }
-
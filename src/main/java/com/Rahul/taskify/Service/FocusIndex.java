@@ -0,0 +1,233 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Repository.TaskRepository;
+import com.Rahul.taskify.dto.DomainEvent;
+import com.Rahul.taskify.dto.FocusTask;
+import com.Rahul.taskify.dto.TaskEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Ranked open tasks per user for /api/task/focus, so the view is read off the front of a sorted set instead of
+ * sorting the user's tasks per request.
+ *
+ * Rank = effective deadline: dueDate moved earlier by {@code priority-lead} per priority step (High 3, Medium 2,
+ * Low 1, see TaskService.getPriorityValue) and by {@code status-lead} for tasks in progress. It does not depend on
+ * the current time, so entries never need re-sorting as deadlines approach; overdue tasks simply stay in front.
+ * Undated tasks come last, by priority.
+ *
+ * A user's set is loaded from the DB at their first request and then kept current by the TASK_* outbox events
+ * (upsert / remove per task, O(log n)). At most {@code max-users} users are held (least recently used dropped).
+ * A set is reloaded after {@code refresh-after}, which also bounds how stale it gets when another instance
+ * consumed some of the events.
+ */
+@Component
+public class FocusIndex {
+
+    private final TaskRepository repo;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${task.focus.max-users:10000}")
+    private int maxUsers;
+
+    @Value("${task.focus.priority-lead:1d}")
+    private Duration priorityLead;
+
+    @Value("${task.focus.status-lead:12h}")
+    private Duration statusLead;
+
+    @Value("${task.focus.refresh-after:10m}")
+    private Duration refreshAfter;
+
+    // userId -> ranked tasks, access-ordered for LRU eviction; guarded by itself
+    private Map<Long, UserFocus> users;
+    // taskId -> userId whose set holds it, to move a task out of its old assignee's set
+    private final Map<Long, Long> taskOwner = new ConcurrentHashMap<>();
+
+    private Counter loads;
+
+    public FocusIndex(TaskRepository repo, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.repo = repo;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserFocus> eldest) {
+                if (size() <= maxUsers) {
+                    return false;
+                }
+                eldest.getValue().release();
+                return true;
+            }
+        };
+        loads = Counter.builder("task.focus.loads").description("Focus sets loaded from the database").register(meterRegistry);
+        Gauge.builder("task.focus.users", this, index -> index.userCount())
+                .description("Users with a focus set in memory").register(meterRegistry);
+    }
+
+    // the user's k most important open tasks
+    public List<FocusTask> top(Long userId, int k) {
+        UserFocus focus = focusOf(userId);
+        focus.ensureLoaded();
+        List<FocusTask> top = new ArrayList<>(k);
+        for (Entry entry : focus.ranked) {
+            if (top.size() == k) {
+                break;
+            }
+            top.add(entry.task());
+        }
+        return top;
+    }
+
+    @EventListener(condition = "#event.aggregateType == T(com.Rahul.taskify.dto.DomainEvent).TASK")
+    public void onTaskEvent(DomainEvent event) throws Exception {
+        TaskEvent task = objectMapper.readValue(event.getPayload(), TaskEvent.class);
+        Long previousOwner = taskOwner.get(task.getTaskId());
+        if (previousOwner != null && !previousOwner.equals(task.getAssignedToId())) {
+            UserFocus previous = indexed(previousOwner);
+            if (previous != null) {
+                previous.remove(task.getTaskId());
+            }
+        }
+        UserFocus focus = task.getAssignedToId() == null ? null : indexed(task.getAssignedToId());
+        if (focus == null) {
+            return; // not in memory: loaded from the DB at the user's next request
+        }
+        if (DomainEvent.TASK_DELETED.equals(event.getEventType()) || task.isCompleted()) {
+            focus.remove(task.getTaskId());
+        } else {
+            focus.upsert(new FocusTask(task.getTaskId(), task.getTitle(), task.getDueDate(), task.getPriority(), task.getStatus()));
+        }
+    }
+
+    int userCount() {
+        synchronized (users) {
+            return users.size();
+        }
+    }
+
+    private UserFocus focusOf(Long userId) {
+        synchronized (users) {
+            UserFocus focus = users.get(userId);
+            if (focus == null || focus.isStale()) {
+                if (focus != null) {
+                    focus.release();
+                }
+                focus = new UserFocus(userId);
+                users.put(userId, focus);
+            }
+            return focus;
+        }
+    }
+
+    private UserFocus indexed(Long userId) {
+        synchronized (users) {
+            return users.get(userId);
+        }
+    }
+
+    // effective deadline in epoch millis (UTC is fine: only the order matters); lower = more important
+    long rank(FocusTask task) {
+        if (task.getDueDate() == null) {
+            return Long.MAX_VALUE;
+        }
+        int priority = TaskService.getPriorityValue(task.getPriority() == null ? "" : task.getPriority());
+        int status = TaskService.getStatusValue(task.getStatus() == null ? "" : task.getStatus());
+        return task.getDueDate().toInstant(ZoneOffset.UTC).toEpochMilli()
+                - (4 - priority) * priorityLead.toMillis()
+                - Math.max(0, 3 - status) * statusLead.toMillis();
+    }
+
+    private static boolean isOpen(FocusTask task) {
+        // updateStatus can set "Completed" without the completed flag
+        return task.getStatus() == null || TaskService.getStatusValue(task.getStatus()) != 1;
+    }
+
+    private final class UserFocus {
+
+        private final Long userId;
+        // read without locking; written under this object's lock together with byTask
+        private final ConcurrentSkipListSet<Entry> ranked = new ConcurrentSkipListSet<>();
+        private final Map<Long, Entry> byTask = new ConcurrentHashMap<>();
+        // volatile: read under the users lock, which must never wait for a load in progress
+        private volatile boolean loaded;
+        private volatile long loadedAtNanos;
+
+        private UserFocus(Long userId) {
+            this.userId = userId;
+        }
+
+        // events for this user wait here until the DB snapshot is in, then apply on top of it
+        synchronized void ensureLoaded() {
+            if (loaded) {
+                return;
+            }
+            ranked.clear();
+            byTask.clear();
+            repo.findOpenFocusTasks(userId).forEach(this::upsert);
+            loaded = true;
+            loadedAtNanos = System.nanoTime();
+            loads.increment();
+        }
+
+        boolean isStale() {
+            return loaded && System.nanoTime() - loadedAtNanos > refreshAfter.toNanos();
+        }
+
+        synchronized void upsert(FocusTask task) {
+            remove(task.getTaskId());
+            if (!isOpen(task)) {
+                return;
+            }
+            Entry entry = new Entry(rank(task), TaskService.getPriorityValue(task.getPriority() == null ? "" : task.getPriority()),
+                    task.getTaskId(), task);
+            byTask.put(task.getTaskId(), entry);
+            ranked.add(entry);
+            taskOwner.put(task.getTaskId(), userId);
+        }
+
+        synchronized void remove(Long taskId) {
+            Entry entry = byTask.remove(taskId);
+            if (entry != null) {
+                ranked.remove(entry);
+                taskOwner.remove(taskId, userId);
+            }
+        }
+
+        void release() {
+            byTask.keySet().forEach(taskId -> taskOwner.remove(taskId, userId));
+        }
+    }
+
+    private record Entry(long rank, int priority, long taskId, FocusTask task) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int byRank = Long.compare(rank, other.rank);
+            if (byRank != 0) {
+                return byRank;
+            }
+            int byPriority = Integer.compare(priority, other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(taskId, other.taskId);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.DomainEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers outbox events to {@code @EventListener DomainEvent} methods in this JVM, synchronously on the relay
+ * thread: a listener exception fails the publish and the event is retried (with the ones after it for the same aggregate).
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.transport", havingValue = "inprocess", matchIfMissing = true)
+public class InProcessOutboxPublisher implements OutboxPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InProcessOutboxPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+}
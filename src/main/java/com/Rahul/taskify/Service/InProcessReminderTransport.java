@@ -0,0 +1,272 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.ReminderDigestMessage;
+import com.Rahul.taskify.dto.ReminderMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * reminder.transport=inprocess: the reminder pipeline without a broker, e.g. in the prod profile.
+ *  - two lanes like RabbitMQ's: bounded queues of {@code capacity}, drained by {@code workers} / {@code urgent-workers}
+ *    threads that call {@link ReminderConsumer}
+ *  - publish waits up to {@code offer-timeout} for room in a full lane, then throws so the pacer / wheel retry later
+ *  - planned reminders and retries are enqueued at their time by a scheduler thread; dead letters are kept in the journal
+ *  - with {@code journal-dir} set, every accepted reminder is journaled until it is handled ({@link ReminderJournal}),
+ *    so queued reminders and pending retries survive a restart. Without it they are lost on shutdown.
+ */
+@Component
+@ConditionalOnProperty(name = "reminder.transport", havingValue = "inprocess")
+public class InProcessReminderTransport implements ReminderTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(InProcessReminderTransport.class);
+
+    private final ObjectProvider<ReminderConsumer> consumer;
+    private final ObjectProvider<ReminderRetryPublisher> retryPublisher;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${reminder.inprocess.capacity:10000}")
+    private int capacity;
+
+    @Value("${reminder.inprocess.workers:1}")
+    private int workers;
+
+    @Value("${reminder.inprocess.urgent-workers:4}")
+    private int urgentWorkers;
+
+    @Value("${reminder.inprocess.offer-timeout:5s}")
+    private Duration offerTimeout;
+
+    @Value("${reminder.inprocess.journal-dir:}")
+    private String journalDir;
+
+    @Value("${reminder.inprocess.journal-fsync:false}")
+    private boolean journalFsync;
+
+    @Value("${reminder.inprocess.journal-compact-after:10000}")
+    private int journalCompactAfter;
+
+    private BlockingQueue<Envelope> normalLane;
+    private BlockingQueue<Envelope> urgentLane;
+    private final List<Thread> threads = new ArrayList<>();
+    private ScheduledThreadPoolExecutor delayed;
+    private ReminderJournal journal; // null = not durable
+    private volatile boolean running;
+
+    private Counter rejected;
+
+    // consumer -> retry publisher -> transport: resolved lazily to break the cycle
+    public InProcessReminderTransport(ObjectProvider<ReminderConsumer> consumer,
+                                      ObjectProvider<ReminderRetryPublisher> retryPublisher,
+                                      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.consumer = consumer;
+        this.retryPublisher = retryPublisher;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        normalLane = new ArrayBlockingQueue<>(capacity);
+        urgentLane = new ArrayBlockingQueue<>(capacity);
+        delayed = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "reminder-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("reminder.transport.depth", normalLane, BlockingQueue::size).tag("lane", "normal")
+                .description("Reminders waiting for an in-process worker").register(meterRegistry);
+        Gauge.builder("reminder.transport.depth", urgentLane, BlockingQueue::size).tag("lane", "urgent")
+                .description("Reminders waiting for an in-process worker").register(meterRegistry);
+        Gauge.builder("reminder.transport.delayed", delayed, executor -> executor.getQueue().size())
+                .description("Planned reminders and retries waiting for their time").register(meterRegistry);
+        rejected = Counter.builder("reminder.transport.rejected")
+                .description("Publishes refused because the lane stayed full for offer-timeout").register(meterRegistry);
+
+        running = true;
+        startWorkers("reminder-worker-", workers, normalLane);
+        startWorkers("reminder-urgent-worker-", urgentWorkers, urgentLane);
+
+        if (StringUtils.hasText(journalDir)) {
+            journal = new ReminderJournal(Path.of(journalDir), objectMapper, journalFsync, journalCompactAfter);
+            List<ReminderJournal.Entry> recovered = journal.recover();
+            if (!recovered.isEmpty()) {
+                log.info("📂 Redelivering {} reminders from the journal in {}", recovered.size(), journalDir);
+            }
+            long now = System.currentTimeMillis();
+            for (ReminderJournal.Entry entry : recovered) {
+                Envelope envelope = new Envelope(entry.id(), entry.payload(), entry.urgent(), entry.attempt());
+                delayed.schedule(() -> enqueueLater(envelope), Math.max(0, entry.notBeforeMillis() - now), TimeUnit.MILLISECONDS);
+            }
+        }
+        log.info("✅ In-process reminder transport started ({} + {} workers, journal {})",
+                workers, urgentWorkers, journal == null ? "off" : journalDir);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException, IOException {
+        running = false;
+        delayed.shutdownNow();
+        threads.forEach(Thread::interrupt);
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        int left = normalLane.size() + urgentLane.size() + delayed.getQueue().size();
+        if (journal != null) {
+            journal.close();
+        } else if (left > 0) {
+            log.warn("⚠️ {} queued reminders dropped at shutdown (no reminder.inprocess.journal-dir)", left);
+        }
+    }
+
+    @Override
+    public void publish(Object payload, boolean urgent) {
+        Envelope envelope = new Envelope(journal(payload, urgent, 1, 0), payload, urgent, 1);
+        boolean accepted;
+        try {
+            accepted = lane(urgent).offer(envelope, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            ack(envelope);
+            rejected.increment();
+            throw new RejectedExecutionException("Reminder lane " + (urgent ? "urgent" : "normal") + " is full");
+        }
+    }
+
+    @Override
+    public void publishAt(Object payload, boolean urgent, long notBeforeMillis) {
+        long delay = notBeforeMillis - System.currentTimeMillis();
+        if (delay <= 0) {
+            publish(payload, urgent);
+            return;
+        }
+        Envelope envelope = new Envelope(journal(payload, urgent, 1, notBeforeMillis), payload, urgent, 1);
+        delayed.schedule(() -> enqueueLater(envelope), delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void retry(Object payload, boolean urgent, int nextAttempt, long delayMillis) {
+        long notBefore = System.currentTimeMillis() + delayMillis;
+        Envelope envelope = new Envelope(journal(payload, urgent, nextAttempt, notBefore), payload, urgent, nextAttempt);
+        delayed.schedule(() -> enqueueLater(envelope), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void deadLetter(Object payload, boolean urgent, int attempts, String error) {
+        if (journal == null) {
+            log.error("☠️ Dead reminder not kept (no reminder.inprocess.journal-dir): {}", payload);
+            return;
+        }
+        try {
+            journal.deadLetter(payload, urgent, attempts, error);
+        } catch (IOException e) {
+            log.error("❌ Could not journal dead reminder: {}", payload, e);
+        }
+    }
+
+    private void startWorkers(String prefix, int count, BlockingQueue<Envelope> lane) {
+        for (int i = 1; i <= count; i++) {
+            Thread thread = new Thread(() -> work(lane), prefix + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    private void work(BlockingQueue<Envelope> lane) {
+        while (running) {
+            Envelope envelope;
+            try {
+                envelope = lane.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                deliver(envelope);
+                ack(envelope);
+            } catch (RuntimeException e) {
+                // not acked: a journaled reminder comes back at the next start
+                log.error("❌ Reminder could not be handed to a retry, left in the journal", e);
+            }
+        }
+    }
+
+    private void deliver(Envelope envelope) {
+        Integer attempt = envelope.attempt() == 1 ? null : envelope.attempt();
+        try {
+            if (envelope.payload() instanceof ReminderDigestMessage digest) {
+                consumer.getObject().consumeDigest(digest, attempt);
+            } else {
+                consumer.getObject().consume((ReminderMessage) envelope.payload(), attempt);
+            }
+        } catch (RuntimeException e) {
+            // what a broker would redeliver; here it takes the same delayed retry path as a failed email
+            log.error("❌ Reminder handling failed (attempt {})", envelope.attempt(), e);
+            retryPublisher.getObject().retryOrDeadLetter(envelope.payload(), envelope.urgent(), envelope.attempt(),
+                    String.valueOf(e.getMessage()));
+        }
+    }
+
+    // runs on the retry thread: a full lane must not block the other retries, so try again shortly
+    private void enqueueLater(Envelope envelope) {
+        if (running && !lane(envelope.urgent()).offer(envelope)) {
+            delayed.schedule(() -> enqueueLater(envelope), offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private long journal(Object payload, boolean urgent, int attempt, long notBeforeMillis) {
+        if (journal == null) {
+            return 0;
+        }
+        try {
+            return journal.append(payload, urgent, attempt, notBeforeMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal reminder", e);
+        }
+    }
+
+    private void ack(Envelope envelope) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.ack(envelope.id());
+        } catch (IOException e) {
+            log.warn("⚠️ Could not journal ack for reminder {}, it may be redelivered after a restart", envelope.id(), e);
+        }
+    }
+
+    private BlockingQueue<Envelope> lane(boolean urgent) {
+        return urgent ? urgentLane : normalLane;
+    }
+
+    private record Envelope(long id, Object payload, boolean urgent, int attempt) {
+    }
+}
@@ -0,0 +1,244 @@
+package com.Rahul.taskify.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends mail from a bounded queue on a few worker threads, each keeping its own authenticated SMTP connection open
+ * across messages (JavaMailSender connects, does EHLO/STARTTLS/AUTH and quits for every single send).
+ *
+ * A worker takes up to {@code batch-size} queued messages at once and sends them back to back on its connection.
+ * Connections are renewed after {@code max-messages-per-connection} messages or {@code max-idle} without use
+ * (Gmail drops idle sessions); a send failing on a dead connection is retried once on a fresh one.
+ * Workers are platform threads: JavaMail's Transport is synchronized and would pin virtual threads.
+ */
+@Component
+public class MailDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(MailDispatcher.class);
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<MailJob> queue;
+    private final int workers;
+    private final int batchSize;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleNanos;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+    private final DistributionSummary batchSizes;
+    private final Counter connects;
+    private final Counter rejected;
+
+    public MailDispatcher(JavaMailSenderImpl mailSender, MeterRegistry meterRegistry,
+                          @Value("${mail.dispatch.workers:2}") int workers,
+                          @Value("${mail.dispatch.queue-capacity:500}") int queueCapacity,
+                          @Value("${mail.dispatch.batch-size:20}") int batchSize,
+                          @Value("${mail.dispatch.max-messages-per-connection:100}") int maxMessagesPerConnection,
+                          @Value("${mail.dispatch.max-idle:60s}") Duration maxIdle) {
+        this.mailSender = mailSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleNanos = maxIdle.toNanos();
+
+        Gauge.builder("mail.queue.depth", queue, BlockingQueue::size)
+                .description("Messages waiting for a mail worker").register(meterRegistry);
+        Gauge.builder("mail.queue.capacity", queue, q -> q.size() + q.remainingCapacity()).register(meterRegistry);
+        this.sendSuccess = Timer.builder("mail.send").description("Time to hand one message to the SMTP server")
+                .tag("result", "sent").register(meterRegistry);
+        this.sendFailure = Timer.builder("mail.send").tag("result", "failed").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("mail.batch.size")
+                .description("Messages sent by a worker in one go on the same connection").register(meterRegistry);
+        this.connects = Counter.builder("mail.transport.connects").register(meterRegistry);
+        this.rejected = Counter.builder("mail.rejected").description("Messages refused because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            Thread thread = new Thread(new Worker(), "mail-dispatch-" + (i + 1));
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    /**
+     * Queues a message; the future completes once the SMTP server accepted it.
+     * Fails immediately with RejectedExecutionException when the queue is full.
+     */
+    public CompletableFuture<Void> submit(MimeMessage message) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (!running || !queue.offer(new MailJob(message, result))) {
+            rejected.increment();
+            result.completeExceptionally(new RejectedExecutionException(
+                    running ? "Mail queue full (" + queue.size() + " waiting)" : "Mail dispatcher stopped"));
+        }
+        return result;
+    }
+
+    /**
+     * Takes a message submitted with {@link #submit} back out of the queue, failing its future with a
+     * CancellationException. False when a worker already has it: it is being (or has been) sent.
+     */
+    public boolean withdraw(CompletableFuture<Void> submitted) {
+        if (!queue.removeIf(job -> job.result() == submitted)) {
+            return false;
+        }
+        submitted.cancel(false);
+        return true;
+    }
+
+    // lets the workers finish what is queued, then fails whatever is left
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        MailJob job;
+        while ((job = queue.poll()) != null) {
+            job.result.completeExceptionally(new RejectedExecutionException("Mail dispatcher stopped"));
+        }
+    }
+
+    private record MailJob(MimeMessage message, CompletableFuture<Void> result) {
+    }
+
+    private final class Worker implements Runnable {
+
+        private Transport transport;
+        private int sentOnConnection;
+        private long lastUsed;
+
+        @Override
+        public void run() {
+            List<MailJob> batch = new ArrayList<>(batchSize);
+            try {
+                while (running || !queue.isEmpty()) {
+                    MailJob first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        if (transport != null && System.nanoTime() - lastUsed > maxIdleNanos) {
+                            disconnect();
+                        }
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    batchSizes.record(batch.size());
+                    for (MailJob job : batch) {
+                        send(job);
+                    }
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                disconnect();
+            }
+        }
+
+        private void send(MailJob job) {
+            long start = System.nanoTime();
+            try {
+                MimeMessage message = job.message();
+                if (message.getSentDate() == null) {
+                    message.setSentDate(new Date());
+                }
+                message.saveChanges();
+                Transport connection = connection();
+                try {
+                    connection.sendMessage(message, message.getAllRecipients());
+                } catch (MessagingException e) {
+                    if (connection.isConnected()) {
+                        throw e; // the server refused this message, the connection is fine
+                    }
+                    disconnect(); // connection dropped (idle timeout, server restart): one retry on a new one
+                    connection().sendMessage(message, message.getAllRecipients());
+                }
+                sentOnConnection++;
+                lastUsed = System.nanoTime();
+                sendSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                job.result().complete(null);
+            } catch (MessagingException | RuntimeException e) {
+                sendFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                log.warn("❌ Mail to {} failed: {}", recipients(job.message()), e.getMessage());
+                job.result().completeExceptionally(e);
+            }
+        }
+
+        private Transport connection() throws MessagingException {
+            if (transport != null && (sentOnConnection >= maxMessagesPerConnection
+                    || System.nanoTime() - lastUsed > maxIdleNanos)) {
+                disconnect();
+            }
+            if (transport == null) {
+                Transport fresh = mailSender.getSession().getTransport(protocol());
+                fresh.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+                connects.increment();
+                transport = fresh;
+                sentOnConnection = 0;
+                lastUsed = System.nanoTime();
+            }
+            return transport;
+        }
+
+        // same fallback as JavaMailSenderImpl.getTransport: configured protocol, then the session's, then smtp
+        private String protocol() {
+            String protocol = mailSender.getProtocol();
+            if (protocol == null) {
+                protocol = mailSender.getSession().getProperty("mail.transport.protocol");
+            }
+            return protocol != null ? protocol : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        }
+
+        private void disconnect() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Closing SMTP connection failed: {}", e.getMessage());
+            }
+            transport = null;
+        }
+
+        private String recipients(MimeMessage message) {
+            try {
+                return String.valueOf(List.of(message.getAllRecipients()));
+            } catch (MessagingException | RuntimeException e) {
+                return "?";
+            }
+        }
+    }
+}
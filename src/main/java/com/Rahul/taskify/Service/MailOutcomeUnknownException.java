@@ -0,0 +1,14 @@
+package com.Rahul.taskify.Service;
+
+import jakarta.mail.MessagingException;
+
+/**
+ * Thrown by EmailService.sendEmail when the send timed out while a mail worker already had the message:
+ * it may still go out, so callers that deduplicate must not retry it as if it had failed.
+ */
+public class MailOutcomeUnknownException extends MessagingException {
+
+    public MailOutcomeUnknownException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.DomainEvent;
+
+/**
+ * Where {@link OutboxRelay} delivers events ({@code outbox.relay.transport}): the in-JVM bus or RabbitMQ.
+ * Returning normally means the event was handed over; throwing makes the relay retry it.
+ */
+public interface OutboxPublisher {
+
+    void publish(DomainEvent event) throws Exception;
+}
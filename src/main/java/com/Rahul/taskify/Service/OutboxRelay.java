@@ -0,0 +1,140 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Model.OutboxEvent;
+import com.Rahul.taskify.Repository.OutboxEventRepository;
+import com.Rahul.taskify.dto.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drains the outbox: every {@code outbox.relay.interval} it locks the oldest {@code batch-size} unpublished rows
+ * (SELECT ... FOR UPDATE, so several app instances never relay the same rows), hands them to the {@link OutboxPublisher}
+ * in id order and marks them published in the same transaction.
+ *
+ * Delivery is at-least-once (a crash between publish and commit re-sends the batch), listeners must be idempotent
+ * on {@link DomainEvent#getId()}. In-process listeners run inside the relay transaction while the rows are locked,
+ * so they must not block (slow work such as mail is handed off, see WelcomeEmailListener). Order per aggregate is kept: once an event of a task fails or is waiting for its
+ * retry, the later events of that task are held back. After {@code max-attempts} failures an event is given up on
+ * (left unpublished, counted in outbox.relay.dead) so the events behind it can flow again.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.backoff:2s}")
+    private Duration backoff;
+
+    @Value("${outbox.relay.retention:7d}")
+    private Duration retention;
+
+    private final Counter published;
+    private final Counter failed;
+    private final Counter dead;
+
+    public OutboxRelay(OutboxEventRepository outboxRepository, OutboxPublisher publisher,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.published = Counter.builder("outbox.relay.events").tag("result", "published").register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.events").tag("result", "failed").register(meterRegistry);
+        this.dead = Counter.builder("outbox.relay.events").tag("result", "dead").register(meterRegistry);
+        Gauge.builder("outbox.backlog", this, r -> r.outboxRepository.countByPublishedAtIsNullAndAttemptsLessThan(r.maxAttempts))
+                .description("Outbox events waiting to be published").register(meterRegistry);
+    }
+
+    @Scheduled(initialDelay = 5000, fixedDelayString = "${outbox.relay.interval:1s}")
+    public void relay() {
+        Integer count; // published in the last batch
+        do {
+            count = transactionTemplate.execute(status -> relayBatch());
+        } while (count != null && count == batchSize); // whole batch went out: there is probably more waiting
+    }
+
+    // returns the number of events published
+    int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxRepository.lockNextBatch(maxAttempts, now, PageRequest.of(0, batchSize));
+        Set<String> heldBack = new HashSet<>();
+        int publishedCount = 0;
+
+        for (OutboxEvent event : batch) {
+            String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+            if (heldBack.contains(aggregate)) {
+                continue;
+            }
+            if (event.getNextAttemptAt() != null && event.getNextAttemptAt().isAfter(now)) {
+                heldBack.add(aggregate);
+                continue;
+            }
+            try {
+                publisher.publish(toDomainEvent(event));
+                event.setPublishedAt(LocalDateTime.now());
+                published.increment();
+                publishedCount++;
+            } catch (Exception e) {
+                heldBack.add(aggregate);
+                onFailure(event, e, now);
+            }
+        }
+        return publishedCount;
+    }
+
+    private void onFailure(OutboxEvent event, Exception e, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        String message = String.valueOf(e.getMessage());
+        event.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        if (attempts >= maxAttempts) {
+            dead.increment();
+            log.error("❌ Giving up on outbox event {} ({} {}) after {} attempts: {}", event.getId(),
+                    event.getEventType(), event.getAggregateId(), attempts, message);
+            return;
+        }
+        failed.increment();
+        // exponential backoff, capped at 64x the base delay
+        event.setNextAttemptAt(now.plus(backoff.multipliedBy(1L << Math.min(attempts - 1, 6))));
+        log.warn("⚠️ Outbox event {} ({} {}) failed (attempt {}): {}", event.getId(), event.getEventType(),
+                event.getAggregateId(), attempts, message);
+    }
+
+    @Scheduled(cron = "${outbox.cleanup.cron:0 15 * * * *}")
+    public void deletePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("🧹 Deleted {} published outbox events older than {}", deleted, retention);
+        }
+    }
+
+    private static DomainEvent toDomainEvent(OutboxEvent event) {
+        return new DomainEvent(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload());
+    }
+}
@@ -0,0 +1,51 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Model.OutboxEvent;
+import com.Rahul.taskify.Model.Task;
+import com.Rahul.taskify.Model.User;
+import com.Rahul.taskify.Repository.OutboxEventRepository;
+import com.Rahul.taskify.dto.DomainEvent;
+import com.Rahul.taskify.dto.TaskEvent;
+import com.Rahul.taskify.dto.UserRegisteredEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes outbox rows in the caller's transaction: the event exists if and only if the change committed.
+ * Publishing (RabbitMQ / in-JVM listeners, emails) is done later by {@link OutboxRelay}, off the request thread.
+ */
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskChanged(String eventType, Task task) {
+        record(DomainEvent.TASK, task.getId(), eventType, TaskEvent.of(task));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void userRegistered(User user) {
+        record(DomainEvent.USER, user.getId(), DomainEvent.USER_REGISTERED,
+                new UserRegisteredEvent(user.getId(), user.getUserName(), user.getEmail()));
+    }
+
+    private void record(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        // Flush the entity change first so its row lock is held before the outbox id is allocated:
+        // two transactions changing the same task then get increasing ids in commit order.
+        outboxRepository.flush();
+        try {
+            outboxRepository.save(new OutboxEvent(aggregateType, aggregateId, eventType, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " event", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.DomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Publishes outbox events to the events exchange and waits for the broker confirm
+ * (needs {@code spring.rabbitmq.publisher-confirm-type=simple}), so a relayed event is never only in flight.
+ * Consumed events are dispatched to the same {@code @EventListener DomainEvent} methods as the in-process transport.
+ */
+@Profile("!prod")
+@Component
+@ConditionalOnProperty(name = "outbox.relay.transport", havingValue = "rabbit")
+public class RabbitOutboxPublisher implements OutboxPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(RabbitOutboxPublisher.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${rabbitmq.events.exchange}")
+    private String eventsExchange;
+
+    @Value("${outbox.relay.confirm-timeout:5s}")
+    private Duration confirmTimeout;
+
+    public RabbitOutboxPublisher(RabbitTemplate rabbitTemplate, ApplicationEventPublisher eventPublisher) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        String routingKey = event.getAggregateType().toLowerCase() + "." + event.getEventType();
+        rabbitTemplate.invoke(operations -> {
+            operations.convertAndSend(eventsExchange, routingKey, event);
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
+    }
+
+    @RabbitListener(queues = "${rabbitmq.events.queue}")
+    public void consume(DomainEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            // no endless redelivery loop for a listener that keeps failing
+            log.error("❌ Event {} ({} {}) failed in a listener: {}", event.getId(), event.getEventType(),
+                    event.getAggregateId(), e.getMessage());
+            throw new AmqpRejectAndDontRequeueException(e);
+        }
+    }
+}
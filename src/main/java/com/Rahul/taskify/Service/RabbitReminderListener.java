@@ -0,0 +1,34 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.ReminderDigestMessage;
+import com.Rahul.taskify.dto.ReminderMessage;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+// ✅ This listens to the queue defined in application.properties; the payload type picks the handler.
+// attempt: x-reminder-attempt, set when the message comes back from a retry tier (absent = first delivery)
+@Component
+@ConditionalOnProperty(name = "reminder.transport", havingValue = "rabbit", matchIfMissing = true)
+@RabbitListener(queues = "${rabbitmq.reminder.queue}", concurrency = "${rabbitmq.reminder.concurrency:1}")
+public class RabbitReminderListener {
+
+    private final ReminderConsumer reminderConsumer;
+
+    public RabbitReminderListener(ReminderConsumer reminderConsumer) {
+        this.reminderConsumer = reminderConsumer;
+    }
+
+    @RabbitHandler
+    public void consume(ReminderMessage message, @Header(name = RabbitReminderTransport.ATTEMPT_HEADER, required = false) Integer attempt) {
+        reminderConsumer.consume(message, attempt);
+    }
+
+    @RabbitHandler
+    public void consumeDigest(ReminderDigestMessage digest,
+                              @Header(name = RabbitReminderTransport.ATTEMPT_HEADER, required = false) Integer attempt) {
+        reminderConsumer.consumeDigest(digest, attempt);
+    }
+}
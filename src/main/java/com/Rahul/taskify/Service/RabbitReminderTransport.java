@@ -0,0 +1,88 @@
+package com.Rahul.taskify.Service;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * reminder.transport=rabbit: reminders go to the reminder exchange, routed into the normal or the urgent lane
+ * (consumed by RabbitReminderListener / RabbitUrgentReminderListener).
+ * Planned reminders (publishAt) wait in reminder-queue-planned, routed there through the retry exchange, until their
+ * per-message TTL expires and they are dead-lettered into their lane the same way as retries.
+ * Retries are re-published to the retry tier for their attempt (RabbitMQConfig: reminder-queue-retry-N queues, no
+ * consumers); when the per-message TTL expires RabbitMQ dead-letters them back to the reminder exchange, into their
+ * original lane. Dead letters go to reminder-dlq.
+ */
+@Component
+@ConditionalOnProperty(name = "reminder.transport", havingValue = "rabbit", matchIfMissing = true)
+public class RabbitReminderTransport implements ReminderTransport {
+
+    public static final String ATTEMPT_HEADER = "x-reminder-attempt";
+    static final String TIER_HEADER = "x-retry-tier";
+    static final String ERROR_HEADER = "x-reminder-error";
+    public static final String PLANNED_TIER = "planned";
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${rabbitmq.reminder.exchange}")
+    private String reminderExchange;
+
+    @Value("${rabbitmq.reminder.routing-key}")
+    private String reminderRoutingKey;
+
+    @Value("${rabbitmq.reminder.urgent-routing-key}")
+    private String urgentRoutingKey;
+
+    @Value("${rabbitmq.reminder.retry-exchange}")
+    private String retryExchange;
+
+    @Value("${rabbitmq.reminder.dead-letter-exchange}")
+    private String deadLetterExchange;
+
+    public RabbitReminderTransport(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    @Override
+    public void publish(Object payload, boolean urgent) {
+        rabbitTemplate.convertAndSend(reminderExchange, laneKey(urgent), payload);
+    }
+
+    @Override
+    public void publishAt(Object payload, boolean urgent, long notBeforeMillis) {
+        long delay = notBeforeMillis - System.currentTimeMillis();
+        if (delay <= 0) {
+            publish(payload, urgent);
+            return;
+        }
+        rabbitTemplate.convertAndSend(retryExchange, laneKey(urgent), payload, message -> {
+            message.getMessageProperties().setHeader(TIER_HEADER, PLANNED_TIER);
+            message.getMessageProperties().setExpiration(String.valueOf(delay));
+            return message;
+        });
+    }
+
+    @Override
+    public void retry(Object payload, boolean urgent, int nextAttempt, long delayMillis) {
+        rabbitTemplate.convertAndSend(retryExchange, laneKey(urgent), payload, message -> {
+            message.getMessageProperties().setHeader(ATTEMPT_HEADER, nextAttempt);
+            message.getMessageProperties().setHeader(TIER_HEADER, String.valueOf(nextAttempt - 1));
+            message.getMessageProperties().setExpiration(String.valueOf(delayMillis));
+            return message;
+        });
+    }
+
+    @Override
+    public void deadLetter(Object payload, boolean urgent, int attempts, String error) {
+        rabbitTemplate.convertAndSend(deadLetterExchange, laneKey(urgent), payload, message -> {
+            message.getMessageProperties().setHeader(ATTEMPT_HEADER, attempts);
+            message.getMessageProperties().setHeader(ERROR_HEADER, error);
+            return message;
+        });
+    }
+
+    private String laneKey(boolean urgent) {
+        return urgent ? urgentRoutingKey : reminderRoutingKey;
+    }
+}
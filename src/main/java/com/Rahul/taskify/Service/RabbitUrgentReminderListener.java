@@ -0,0 +1,33 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.ReminderDigestMessage;
+import com.Rahul.taskify.dto.ReminderMessage;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+// Urgent lane: same handling as the normal lane, own queue and more consumers (rabbitmq.reminder.urgent-concurrency)
+@Component
+@ConditionalOnProperty(name = "reminder.transport", havingValue = "rabbit", matchIfMissing = true)
+@RabbitListener(queues = "${rabbitmq.reminder.urgent-queue}", concurrency = "${rabbitmq.reminder.urgent-concurrency:4}")
+public class RabbitUrgentReminderListener {
+
+    private final ReminderConsumer reminderConsumer;
+
+    public RabbitUrgentReminderListener(ReminderConsumer reminderConsumer) {
+        this.reminderConsumer = reminderConsumer;
+    }
+
+    @RabbitHandler
+    public void consume(ReminderMessage message, @Header(name = RabbitReminderTransport.ATTEMPT_HEADER, required = false) Integer attempt) {
+        reminderConsumer.consume(message, attempt);
+    }
+
+    @RabbitHandler
+    public void consumeDigest(ReminderDigestMessage digest,
+                              @Header(name = RabbitReminderTransport.ATTEMPT_HEADER, required = false) Integer attempt) {
+        reminderConsumer.consumeDigest(digest, attempt);
+    }
+}
@@ -3,31 +3,85 @@ package com.Rahul.taskify.Service;
 import com.Rahul.taskify.Model.Task;
 import com.Rahul.taskify.Model.User;
 import com.Rahul.taskify.Service.EmailService;
+import com.Rahul.taskify.Monitoring.ReminderConsumeEvent;
+import com.Rahul.taskify.dto.ReminderDigestMessage;
 import com.Rahul.taskify.dto.ReminderMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
 
+import java.time.Duration;
 
+
+// Sends the reminder emails. Fed by the ReminderTransport: RabbitReminderListener / RabbitUrgentReminderListener,
+// or the worker threads of InProcessReminderTransport.
 @Component
 public class ReminderConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(ReminderConsumer.class);
 
     private final EmailService emailService;
+    private final ReminderIdempotencyService idempotency;
+    private final ReminderRetryPublisher retryPublisher;
+
+    private final Timer consumeLag;
+    private final Timer urgentConsumeLag;
+    private final Counter emailsSent;
+    private final Counter emailsFailed;
+    private final Counter digestsSent;
+    private final Counter digestsFailed;
+    private final Counter emailsUnknown;
+    private final Counter digestsUnknown;
+    private final Counter duplicates;
 
-    public ReminderConsumer(EmailService emailService) {
+    public ReminderConsumer(EmailService emailService, ReminderIdempotencyService idempotency,
+                            ReminderRetryPublisher retryPublisher, MeterRegistry meterRegistry) {
         this.emailService = emailService;
+        this.idempotency = idempotency;
+        this.retryPublisher = retryPublisher;
+        this.consumeLag = Timer.builder("reminder.consume.lag")
+                .description("Time between the scheduler publishing a reminder and this consumer picking it up")
+                .tag("lane", "normal")
+                .register(meterRegistry);
+        this.urgentConsumeLag = Timer.builder("reminder.consume.lag")
+                .description("Time between the scheduler publishing a reminder and this consumer picking it up")
+                .tag("lane", "urgent")
+                .register(meterRegistry);
+        this.emailsSent = Counter.builder("reminder.emails").tag("type", "task").tag("result", "sent").register(meterRegistry);
+        this.emailsFailed = Counter.builder("reminder.emails").tag("type", "task").tag("result", "failed").register(meterRegistry);
+        this.digestsSent = Counter.builder("reminder.emails").tag("type", "digest").tag("result", "sent").register(meterRegistry);
+        this.digestsFailed = Counter.builder("reminder.emails").tag("type", "digest").tag("result", "failed").register(meterRegistry);
+        this.emailsUnknown = Counter.builder("reminder.emails").tag("type", "task").tag("result", "unknown").register(meterRegistry);
+        this.digestsUnknown = Counter.builder("reminder.emails").tag("type", "digest").tag("result", "unknown").register(meterRegistry);
+        this.duplicates = Counter.builder("reminder.duplicates")
+                .description("Reminders skipped because their delivery key was already claimed").register(meterRegistry);
     }
 
-    // ✅ This listens to the queue defined in application.properties
-    @RabbitListener(queues = "${rabbitmq.reminder.queue}")
     public void consume(ReminderMessage message) {
+        consume(message, null);
+    }
+
+    // attempt: set when the message comes back from a retry (null = first delivery)
+    public void consume(ReminderMessage message, Integer attempt) {
         log.info("📥 Consumed reminder for task ID: {}", message.getTaskId());
+        if (attempt == null) { // a retried message would count its backoff as lag
+            recordLag(message.getEnqueuedAt(), message.isUrgent());
+        }
+
+        String key = idempotency.taskKey(message.getTaskId(), message.getReminderDate());
+        if (!idempotency.claim(key)) {
+            duplicates.increment();
+            log.info("⏭️ Reminder for task ID: {} already sent for {}, skipping", message.getTaskId(), message.getReminderDate());
+            return;
+        }
 
+        ReminderConsumeEvent event = new ReminderConsumeEvent();
+        event.begin();
         try {
             emailService.sendEmail(
                     message.getEmail(),
@@ -39,9 +93,114 @@ public class ReminderConsumer {
                             "Please make sure to complete it on time.\n\n" +
                             "Regards,\nTaskify Bot 🤖"
             );
+            emailsSent.increment();
+            event.emailSent = true;
             log.info("✅ Email sent for task ID: {}", message.getTaskId());
+        } catch (MailOutcomeUnknownException e) {
+            // may still be delivered: keep the key claimed and do not retry, a second copy is worse than none
+            emailsUnknown.increment();
+            log.warn("⚠️ Outcome unknown for email for task ID: {}, not retrying: {}", message.getTaskId(), e.getMessage());
         } catch (MessagingException e) {
+            idempotency.release(key);
+            emailsFailed.increment();
             log.error("❌ Failed to send email for task ID: {}", message.getTaskId(), e);
+            retry(message, message.isUrgent(), attempt, e);
+        } catch (RuntimeException e) {
+            idempotency.release(key);
+            emailsFailed.increment();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.taskId = message.getTaskId() == null ? -1 : message.getTaskId();
+                event.tasks = 1;
+                event.commit();
+            }
+        }
+    }
+
+    public void consumeDigest(ReminderDigestMessage digest) {
+        consumeDigest(digest, null);
+    }
+
+    public void consumeDigest(ReminderDigestMessage digest, Integer attempt) {
+        log.info("📥 Consumed reminder digest for user ID: {} ({} tasks)", digest.getUserId(), digest.getTotalTasks());
+        if (attempt == null) {
+            recordLag(digest.getEnqueuedAt(), digest.isUrgent());
+        }
+
+        String key = idempotency.digestKey(digest.getUserId(), digest.getReminderDate());
+        if (!idempotency.claim(key)) {
+            duplicates.increment();
+            log.info("⏭️ Reminder digest for user ID: {} already sent for {}, skipping", digest.getUserId(), digest.getReminderDate());
+            return;
+        }
+
+        ReminderConsumeEvent event = new ReminderConsumeEvent();
+        event.begin();
+        try {
+            int count = digest.getTotalTasks();
+            emailService.sendEmail(
+                    digest.getEmail(),
+                    "⏰ " + count + (count == 1 ? " task is" : " tasks are") + " due soon",
+                    renderDigest(digest)
+            );
+            digestsSent.increment();
+            event.emailSent = true;
+            log.info("✅ Digest email sent for user ID: {}", digest.getUserId());
+        } catch (MailOutcomeUnknownException e) {
+            // may still be delivered: keep the key claimed and do not retry, a second copy is worse than none
+            digestsUnknown.increment();
+            log.warn("⚠️ Outcome unknown for digest email for user ID: {}, not retrying: {}", digest.getUserId(), e.getMessage());
+        } catch (MessagingException e) {
+            idempotency.release(key);
+            digestsFailed.increment();
+            log.error("❌ Failed to send digest email for user ID: {}", digest.getUserId(), e);
+            retry(digest, digest.isUrgent(), attempt, e);
+        } catch (RuntimeException e) {
+            idempotency.release(key);
+            digestsFailed.increment();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.taskId = -1;
+                event.tasks = digest.getTotalTasks();
+                event.commit();
+            }
+        }
+    }
+
+    static String renderDigest(ReminderDigestMessage digest) {
+        StringBuilder body = new StringBuilder()
+                .append("<h2>Hello ").append(HtmlUtils.htmlEscape(String.valueOf(digest.getUserName()))).append(",</h2>")
+                .append("<p>These tasks are due soon:</p><ul>");
+        for (ReminderDigestMessage.Item item : digest.getTasks()) {
+            body.append("<li>📌 <strong>").append(HtmlUtils.htmlEscape(String.valueOf(item.getTitle()))).append("</strong>")
+                    .append(" – 🗓 ").append(item.getDueDate());
+            if (item.getPriority() != null) {
+                body.append(" (").append(HtmlUtils.htmlEscape(item.getPriority())).append(")");
+            }
+            body.append("</li>");
+        }
+        body.append("</ul>");
+        int notListed = digest.getTotalTasks() - digest.getTasks().size();
+        if (notListed > 0) {
+            body.append("<p>…and ").append(notListed).append(" more.</p>");
+        }
+        return body.append("<p>Please make sure to complete them on time.</p>")
+                .append("<br/><p style='color:gray;'>Regards,<br/>Taskify Bot 🤖</p>")
+                .toString();
+    }
+
+    // hands the message back to the transport for a delayed retry and returns, so the consumer thread is free right away
+    private void retry(Object payload, boolean urgent, Integer attempt, MessagingException e) {
+        retryPublisher.retryOrDeadLetter(payload, urgent, attempt == null ? 1 : attempt, String.valueOf(e.getMessage()));
+    }
+
+    private void recordLag(Long enqueuedAt, boolean urgent) {
+        if (enqueuedAt != null) {
+            (urgent ? urgentConsumeLag : consumeLag).record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - enqueuedAt)));
         }
     }
 }
@@ -0,0 +1,72 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Repository.ReminderDeliveryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * At most one reminder email per task (or digest per user) and reminder day, however often the message is delivered:
+ * the consumer claims the key before sending and releases it when the send fails, so a retry can claim it again.
+ */
+@Service
+public class ReminderIdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderIdempotencyService.class);
+
+    private final ReminderDeliveryRepository repository;
+
+    @Value("${reminder.zone}")
+    private ZoneId zone;
+
+    @Value("${reminder.idempotency.retention:7d}")
+    private Duration retention;
+
+    public ReminderIdempotencyService(ReminderDeliveryRepository repository) {
+        this.repository = repository;
+    }
+
+    // reminderDate: the day the message was planned for (ReminderMessage/ReminderDigestMessage.reminderDate), so a
+    // retry or backlog crossing midnight keeps its key; today in reminder.zone for messages queued before it existed
+    public String taskKey(Long taskId, String reminderDate) {
+        return "task:" + taskId + ":" + day(reminderDate);
+    }
+
+    public String digestKey(Long userId, String reminderDate) {
+        return "digest:" + userId + ":" + day(reminderDate);
+    }
+
+    private String day(String reminderDate) {
+        return reminderDate != null ? reminderDate : LocalDate.now(zone).toString();
+    }
+
+    // false when the key was claimed before: this reminder has already been sent (or is being sent)
+    public boolean claim(String key) {
+        try {
+            repository.insert(key, LocalDateTime.now());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    public void release(String key) {
+        repository.deleteById(key);
+    }
+
+    @Scheduled(cron = "${reminder.idempotency.cleanup-cron:0 45 3 * * *}")
+    public void deleteExpired() {
+        int deleted = repository.deleteSentBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("🧹 Deleted {} reminder delivery records older than {}", deleted, retention);
+        }
+    }
+}
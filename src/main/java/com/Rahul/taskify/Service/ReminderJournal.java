@@ -0,0 +1,185 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.ReminderDigestMessage;
+import com.Rahul.taskify.dto.ReminderMessage;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only journal behind {@link InProcessReminderTransport}, one JSON line per record in {@code reminders.log}:
+ *  - P: a reminder was accepted (id, lane, attempt, not-before time, payload)
+ *  - A: reminder id was handled (sent, skipped, handed to a retry or dead-lettered)
+ * At startup {@link #recover()} returns the P records without an A, i.e. what was queued or waiting for a retry
+ * when the JVM stopped; they are redelivered (the consumer's idempotency keys catch the ones that were sent just
+ * before a crash). The file is rewritten with only the pending records at startup and every {@code compactAfter}
+ * acks. Dead letters are appended to {@code dead-letters.log}.
+ *
+ * With {@code fsync=false} a record reaches the OS page cache before publish returns, which survives a JVM crash
+ * but not a power loss.
+ */
+class ReminderJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderJournal.class);
+
+    static final String FILE = "reminders.log";
+    static final String DEAD_LETTER_FILE = "dead-letters.log";
+
+    private static final String TASK = "task";
+    private static final String DIGEST = "digest";
+
+    private final Path file;
+    private final Path deadLetterFile;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    private final int compactAfter;
+
+    // pending id -> its P line, kept to rewrite the file on compaction
+    private final Map<Long, String> pending = new LinkedHashMap<>();
+    private FileChannel channel;
+    private long nextId = 1;
+    private int acksSinceCompaction;
+
+    ReminderJournal(Path directory, ObjectMapper objectMapper, boolean fsync, int compactAfter) throws IOException {
+        Files.createDirectories(directory);
+        this.file = directory.resolve(FILE);
+        this.deadLetterFile = directory.resolve(DEAD_LETTER_FILE);
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        this.compactAfter = compactAfter;
+    }
+
+    // reads the journal left by the previous run and opens it for appending; call once, before any append
+    synchronized List<Entry> recover() throws IOException {
+        List<Entry> recovered = new ArrayList<>();
+        if (Files.exists(file)) {
+            Map<Long, Entry> entries = new LinkedHashMap<>();
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Line record;
+                try {
+                    record = objectMapper.readValue(line, Line.class);
+                } catch (JsonProcessingException e) {
+                    log.warn("⚠️ Skipping unreadable reminder journal line (torn write?): {}", e.getOriginalMessage());
+                    continue;
+                }
+                nextId = Math.max(nextId, record.id() + 1);
+                if ("A".equals(record.op())) {
+                    entries.remove(record.id());
+                    pending.remove(record.id());
+                } else {
+                    entries.put(record.id(), new Entry(record.id(), toPayload(record), record.urgent(),
+                            record.attempt(), record.notBefore()));
+                    pending.put(record.id(), line);
+                }
+            }
+            recovered.addAll(entries.values());
+        }
+        compact();
+        return recovered;
+    }
+
+    // records an accepted reminder, returns its id
+    synchronized long append(Object payload, boolean urgent, int attempt, long notBeforeMillis) throws IOException {
+        long id = nextId++;
+        String line = objectMapper.writeValueAsString(new Line("P", id, urgent, attempt, notBeforeMillis,
+                payload instanceof ReminderDigestMessage ? DIGEST : TASK, objectMapper.valueToTree(payload), null));
+        write(line);
+        pending.put(id, line);
+        return id;
+    }
+
+    synchronized void ack(long id) throws IOException {
+        if (pending.remove(id) == null) {
+            return;
+        }
+        write(objectMapper.writeValueAsString(new Line("A", id, false, 0, 0, null, null, null)));
+        if (++acksSinceCompaction >= compactAfter) {
+            compact();
+        }
+    }
+
+    synchronized void deadLetter(Object payload, boolean urgent, int attempts, String error) throws IOException {
+        String line = objectMapper.writeValueAsString(new Line("D", 0, urgent, attempts, System.currentTimeMillis(),
+                payload instanceof ReminderDigestMessage ? DIGEST : TASK, objectMapper.valueToTree(payload), error)) + "\n";
+        Files.writeString(deadLetterFile, line, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+    }
+
+    synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.force(true);
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void write(String line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    // rewrites the journal with only the pending records: temp file + atomic rename, so a crash keeps one of the two
+    private void compact() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        Path tmp = file.resolveSibling(FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (String line : pending.values()) {
+                ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            }
+            out.force(true);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        acksSinceCompaction = 0;
+    }
+
+    private Object toPayload(Line record) throws JsonProcessingException {
+        return DIGEST.equals(record.type())
+                ? objectMapper.treeToValue(record.payload(), ReminderDigestMessage.class)
+                : objectMapper.treeToValue(record.payload(), ReminderMessage.class);
+    }
+
+    record Entry(long id, Object payload, boolean urgent, int attempt, long notBeforeMillis) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Line(String op, long id, boolean urgent, int attempt, long notBefore, String type, JsonNode payload,
+                  String error) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Model.Task;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Reminders travel in two lanes (RabbitMQConfig): urgent ones - High priority or due today in the assignee's
+ * time zone - go to their own queue with more consumers, so they never wait behind a backlog of bulk reminders.
+ */
+public final class ReminderLanes {
+
+    private ReminderLanes() {
+    }
+
+    public static boolean isUrgent(Task task, ZoneId zone) {
+        return "High".equalsIgnoreCase(task.getPriority())
+                || (task.getDueDate() != null && !task.getDueDate().toLocalDate().isAfter(LocalDate.now(zone)));
+    }
+}
@@ -0,0 +1,156 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.ReminderDigestMessage;
+import com.Rahul.taskify.dto.ReminderMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spreads a run's reminders over time without holding them in memory: each planned reminder is handed to the
+ * transport right away with its delivery time ({@link ReminderTransport#publishAt}), so it waits in RabbitMQ or in
+ * the in-process journal and survives a restart. Delivery times are assigned in time order, at most
+ * {@code reminder.spread.max-per-second} apart overall.
+ *
+ * Only a failed hand-over is kept here: it is retried after {@code retry-delay}, up to {@code max-attempts} times.
+ */
+@Component
+public class ReminderPacer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderPacer.class);
+
+    private final ReminderTransport transport;
+    private final MeterRegistry meterRegistry;
+    // failed hand-overs waiting for their retry
+    private final DelayQueue<Paced> retries = new DelayQueue<>();
+
+    @Value("${reminder.spread.max-per-second:20}")
+    private double maxPerSecond;
+
+    @Value("${reminder.spread.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${reminder.spread.retry-delay:1m}")
+    private Duration retryDelay;
+
+    private Thread worker;
+    private volatile boolean running;
+    // earliest delivery time the next planned reminder may get (rate cap across runs)
+    private long nextSlotMillis;
+
+    private Counter published;
+    private Counter publishFailures;
+
+    public ReminderPacer(ReminderTransport transport, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        published = Counter.builder("reminder.messages.published").tag("result", "success").register(meterRegistry);
+        publishFailures = Counter.builder("reminder.messages.published").tag("result", "failure").register(meterRegistry);
+        Gauge.builder("reminder.pacer.pending", retries, DelayQueue::size)
+                .description("Reminders whose hand-over to the transport failed, waiting for a retry").register(meterRegistry);
+
+        running = true;
+        worker = new Thread(this::run, "reminder-pacer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        worker.interrupt();
+        if (!retries.isEmpty()) {
+            log.warn("⚠️ {} reminders dropped at shutdown, their hand-over to the transport kept failing", retries.size());
+        }
+    }
+
+    /**
+     * Hands a run's reminders to the transport, each for delivery at its planned time or later.
+     * Sorted first: the broker's delay queue only expires messages at its head, so they must go in in time order.
+     */
+    public synchronized void plan(List<Planned> plan) {
+        long interval = Math.max(1, (long) (1000 / maxPerSecond));
+        plan.stream().sorted(Comparator.comparingLong(Planned::notBeforeMillis)).forEach(planned -> {
+            long deliverAt = Math.max(planned.notBeforeMillis(), nextSlotMillis);
+            nextSlotMillis = deliverAt + interval;
+            publish(new Paced(planned.message(), deliverAt, 1));
+        });
+    }
+
+    public int pending() {
+        return retries.size();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                publish(retries.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void publish(Paced paced) {
+        try {
+            // consume lag should count from the planned delivery, not from the scan
+            boolean urgent = false;
+            if (paced.message() instanceof ReminderMessage reminder) {
+                reminder.setEnqueuedAt(paced.deliverAtMillis());
+                urgent = reminder.isUrgent();
+            } else if (paced.message() instanceof ReminderDigestMessage digest) {
+                digest.setEnqueuedAt(paced.deliverAtMillis());
+                urgent = digest.isUrgent();
+            }
+            transport.publishAt(paced.message(), urgent, paced.deliverAtMillis());
+            published.increment();
+        } catch (RuntimeException e) {
+            publishFailures.increment();
+            if (paced.attempt() < maxAttempts) {
+                log.warn("⚠️ Reminder publish failed (attempt {}), retrying in {}: {}", paced.attempt(), retryDelay, e.getMessage());
+                retries.put(new Paced(paced.message(), paced.deliverAtMillis(), paced.attempt() + 1,
+                        System.currentTimeMillis() + retryDelay.toMillis()));
+            } else {
+                log.error("❌ Reminder dropped after {} publish attempts", paced.attempt(), e);
+            }
+        }
+    }
+
+    // message is a ReminderMessage or ReminderDigestMessage, to be delivered no earlier than notBeforeMillis
+    public record Planned(Object message, long notBeforeMillis) {
+    }
+
+    private record Paced(Object message, long deliverAtMillis, int attempt, long retryAtMillis) implements Delayed {
+
+        private Paced(Object message, long deliverAtMillis, int attempt) {
+            this(message, deliverAtMillis, attempt, 0);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(retryAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(retryAtMillis, ((Paced) other).retryAtMillis);
+        }
+    }
+}
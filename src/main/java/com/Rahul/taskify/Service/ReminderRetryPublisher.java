@@ -0,0 +1,62 @@
+package com.Rahul.taskify.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Non-blocking retry for reminders whose email failed: instead of sleeping on the consumer thread, the message is
+ * handed back to the {@link ReminderTransport} for delayed redelivery (RabbitMQ retry tiers, or a delayed re-enqueue
+ * in process). Delay: {@code base-delay * 2^(attempt-1)} with +/- {@code jitter}; after {@code max-attempts} the
+ * reminder is dead-lettered.
+ */
+@Component
+public class ReminderRetryPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderRetryPublisher.class);
+
+    private final ReminderTransport transport;
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    @Value("${reminder.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${reminder.retry.base-delay:30s}")
+    private Duration baseDelay;
+
+    @Value("${reminder.retry.jitter:0.2}")
+    private double jitter;
+
+    public ReminderRetryPublisher(ReminderTransport transport, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.retried = Counter.builder("reminder.retries").description("Failed reminders scheduled for another attempt").register(meterRegistry);
+        this.deadLettered = Counter.builder("reminder.dead-lettered").description("Reminders given up on").register(meterRegistry);
+    }
+
+    // attempt: the delivery that just failed (1 = first)
+    public void retryOrDeadLetter(Object payload, boolean urgent, int attempt, String error) {
+        if (attempt >= maxAttempts) {
+            transport.deadLetter(payload, urgent, attempt, error);
+            deadLettered.increment();
+            log.error("☠️ Reminder dead-lettered after {} attempts: {}", attempt, error);
+            return;
+        }
+        long delay = delayMillis(attempt);
+        transport.retry(payload, urgent, attempt + 1, delay);
+        retried.increment();
+        log.warn("🔁 Reminder retry {} of {} in {} ms: {}", attempt + 1, maxAttempts, delay, error);
+    }
+
+    long delayMillis(int attempt) {
+        long base = baseDelay.toMillis() << Math.min(attempt - 1, 20);
+        double factor = 1 + (jitter == 0 ? 0 : ThreadLocalRandom.current().nextDouble(-jitter, jitter));
+        return Math.max(1, Math.round(base * factor));
+    }
+}
@@ -3,20 +3,40 @@ package com.Rahul.taskify.Service;
 import com.Rahul.taskify.Model.Task;
 import com.Rahul.taskify.Model.User;
 import com.Rahul.taskify.Repository.TaskRepository;
+import com.Rahul.taskify.Repository.UserRepository;
+import com.Rahul.taskify.dto.ReminderDigestMessage;
 import com.Rahul.taskify.dto.ReminderMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Profile;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-@Profile("!prod")
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 @Component
+@ConditionalOnProperty(name = "reminder.mode", havingValue = "batch", matchIfMissing = true)
 public class ReminderScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(ReminderScheduler.class);
@@ -25,44 +45,177 @@ public class ReminderScheduler {
     private TaskRepository taskRepository;
 
     @Autowired
-    private RabbitTemplate rabbitTemplate;
+    private UserRepository userRepository;
 
-    @Value("${rabbitmq.reminder.exchange}")
-    private String reminderExchange;
+    @Autowired
+    private ReminderPacer pacer;
+
+    @Value("${reminder.zone}")
+    private ZoneId defaultZone;
+
+    // run hourly; each user is reminded when it is reminder.local-hour in their own time zone
+    @Value("${reminder.per-user-zone:true}")
+    private boolean perUserZone;
+
+    @Value("${reminder.local-hour:8}")
+    private int localHour;
+
+    // the reminders of one run are published across this window (keep it below the cron interval)
+    @Value("${reminder.spread.window:50m}")
+    private Duration spreadWindow;
+
+    // bound of the random part of each user's offset, drawn anew every run
+    @Value("${reminder.spread.jitter:5m}")
+    private Duration spreadJitter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // one email per user listing all their due tasks instead of one per task
+    @Value("${reminder.digest.enabled:true}")
+    private boolean digestEnabled;
+
+    @Value("${reminder.digest.max-tasks:50}")
+    private int digestMaxTasks;
 
-    @Value("${rabbitmq.reminder.routing-key}")
-    private String reminderRoutingKey;
+    // results of the last run, exposed as gauges (reminder.last-run.*)
+    private final AtomicLong lastRunScanned = new AtomicLong();
+    private final AtomicLong lastRunPublished = new AtomicLong();
 
-    // Runs every day at 8 AM IST
+    private Counter scanned;
+    private Timer runTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        scanned = Counter.builder("reminder.tasks.scanned").description("Tasks looked at by the reminder run").register(meterRegistry);
+        runTimer = Timer.builder("reminder.run").description("Duration of one reminder scheduler run").register(meterRegistry);
+        Gauge.builder("reminder.last-run.tasks.scanned", lastRunScanned, AtomicLong::get).register(meterRegistry);
+        // handed to the transport for delivery during the spread window
+        Gauge.builder("reminder.last-run.messages.published", lastRunPublished, AtomicLong::get).register(meterRegistry);
+    }
+
+    // Runs hourly: picks the users whose local hour is reminder.local-hour and hands their reminders to the pacer
     @Scheduled(cron = "${reminder.cron}", zone = "${reminder.zone}")
+    @Transactional(readOnly = true) // the scan can be served by a read replica
     public void sendTaskReminders() {
-        LocalDate today = LocalDate.now();
-        LocalDate tomorrow = today.plusDays(1);
-
-        List<Task> upcomingTasks = taskRepository.findAll();
-
-        for (Task task : upcomingTasks) {
-            if (task.getDueDate() == null || task.isCompleted()) continue;
-
-            LocalDate dueDate = task.getDueDate().toLocalDate();
-            if (dueDate.isEqual(today) || dueDate.isEqual(tomorrow)) {
-                User assignedUser = task.getAssignedTo();
-                if (assignedUser != null && assignedUser.getEmail() != null) {
-
-                    // ✅ Include taskId in the message now
-                    ReminderMessage message = new ReminderMessage(
-                            task.getId(),
-                            assignedUser.getEmail(),
-                            assignedUser.getUserName(),
-                            task.getTitle(),
-                            dueDate.toString()
-                    );
-
-                    // Publish to RabbitMQ
-                    rabbitTemplate.convertAndSend(reminderExchange, reminderRoutingKey, message);
-                    log.info("📤 Reminder enqueued for task ID: {}", task.getId());
-                }
+        runTimer.record(this::publishReminders);
+    }
+
+    private void publishReminders() {
+        long windowStart = System.currentTimeMillis();
+        List<Task> dueTasks = new ArrayList<>();
+
+        if (perUserZone) {
+            // users whose local time is now reminder.local-hour; due today or tomorrow in their own calendar
+            for (ZoneId zone : zonesAtReminderHour(Instant.ofEpochMilli(windowStart))) {
+                LocalDate today = LocalDate.now(zone);
+                dueTasks.addAll(taskRepository.findOpenDueBetweenInZone(today.atStartOfDay(), today.plusDays(2).atStartOfDay(),
+                        zone.getId(), zone.equals(defaultZone)));
+            }
+        } else {
+            LocalDate today = LocalDate.now(defaultZone);
+            dueTasks = taskRepository.findOpenDueBetween(today.atStartOfDay(), today.plusDays(2).atStartOfDay());
+        }
+        List<ReminderPacer.Planned> plan = digestEnabled ? planDigests(dueTasks, windowStart) : planPerTask(dueTasks, windowStart);
+        pacer.plan(plan);
+
+        scanned.increment(dueTasks.size());
+        lastRunScanned.set(dueTasks.size());
+        lastRunPublished.set(plan.size());
+    }
+
+    // the default zone (users without a time zone) plus every zone users picked, where it is now the reminder hour
+    private List<ZoneId> zonesAtReminderHour(Instant now) {
+        Set<ZoneId> zones = new LinkedHashSet<>();
+        zones.add(defaultZone);
+        for (String id : userRepository.findDistinctTimeZones()) {
+            try {
+                zones.add(ZoneId.of(id));
+            } catch (DateTimeException e) {
+                log.warn("⚠️ Ignoring unknown user time zone '{}'", id);
             }
         }
+        return zones.stream().filter(zone -> now.atZone(zone).getHour() == localHour).toList();
+    }
+
+    private List<ReminderPacer.Planned> planPerTask(List<Task> dueTasks, long windowStart) {
+        List<ReminderPacer.Planned> plan = new ArrayList<>();
+        for (Task task : dueTasks) {
+            User assignedUser = task.getAssignedTo();
+            if (assignedUser.getEmail() == null) continue;
+
+            // ✅ Include taskId in the message now
+            ReminderMessage message = new ReminderMessage(
+                    task.getId(),
+                    assignedUser.getEmail(),
+                    assignedUser.getUserName(),
+                    task.getTitle(),
+                    task.getDueDate().toLocalDate().toString(),
+                    System.currentTimeMillis(),
+                    ReminderLanes.isUrgent(task, zoneOf(assignedUser)),
+                    reminderDate(assignedUser, windowStart)
+            );
+            // urgent reminders are not spread: they go out at the start of the window
+            plan.add(new ReminderPacer.Planned(message, windowStart + (message.isUrgent() ? 0 : spreadOffset(assignedUser.getId()))));
+            log.info("📤 Reminder planned for task ID: {}", task.getId());
+        }
+        return plan;
+    }
+
+    // one message per assignee; dueTasks arrive grouped by assignee, soonest first
+    private List<ReminderPacer.Planned> planDigests(List<Task> dueTasks, long windowStart) {
+        // keyed by id: User's Lombok hashCode would walk its task collections
+        Map<Long, List<Task>> byUser = dueTasks.stream()
+                .filter(task -> task.getAssignedTo().getEmail() != null)
+                .collect(Collectors.groupingBy(task -> task.getAssignedTo().getId(), LinkedHashMap::new, Collectors.toList()));
+
+        List<ReminderPacer.Planned> plan = new ArrayList<>();
+        for (List<Task> tasks : byUser.values()) {
+            User user = tasks.get(0).getAssignedTo();
+            List<ReminderDigestMessage.Item> items = tasks.stream()
+                    .limit(digestMaxTasks)
+                    .map(task -> new ReminderDigestMessage.Item(task.getId(), task.getTitle(),
+                            task.getDueDate().toLocalDate().toString(), task.getPriority()))
+                    .toList();
+            ZoneId zone = zoneOf(user);
+            boolean urgent = tasks.stream().anyMatch(task -> ReminderLanes.isUrgent(task, zone));
+            plan.add(new ReminderPacer.Planned(new ReminderDigestMessage(user.getId(), user.getEmail(), user.getUserName(),
+                    items, tasks.size(), System.currentTimeMillis(), urgent, reminderDate(user, windowStart)), windowStart + (urgent ? 0 : spreadOffset(user.getId()))));
+            log.info("📤 Reminder digest planned for user ID: {} ({} tasks)", user.getId(), tasks.size());
+        }
+        return plan;
+    }
+
+    // the user's calendar day at the scan: a retry or backlog delivered after midnight still has the same delivery key
+    private String reminderDate(User user, long windowStart) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(windowStart), zoneOf(user)).toString();
+    }
+
+    // a blank or unknown zone must not abort the whole run: that user is reminded on UTC
+    private ZoneId zoneOf(User user) {
+        String id = user.getTimeZone();
+        if (id == null) {
+            return defaultZone;
+        }
+        try {
+            return ZoneId.of(id);
+        } catch (DateTimeException e) {
+            log.warn("⚠️ User {} has unknown time zone '{}', using UTC", user.getId(), id);
+            return ZoneOffset.UTC;
+        }
+    }
+
+    // Fibonacci hashing of the id spreads users evenly over the window; on top of that a random +/- spread.jitter,
+    // drawn per run, so users whose hashes land close together don't hit the mail server together every day.
+    // The result wraps around inside the window.
+    long spreadOffset(Long userId) {
+        long window = spreadWindow.toMillis();
+        if (window <= 0 || userId == null) {
+            return 0;
+        }
+        long base = Math.floorMod(userId * 0x9E3779B97F4A7C15L, window);
+        long jitter = Math.min(spreadJitter.toMillis(), window);
+        long random = jitter <= 0 ? 0 : ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+        return Math.floorMod(base + random, window);
     }
 }
@@ -0,0 +1,23 @@
+package com.Rahul.taskify.Service;
+
+/**
+ * Carries reminders (ReminderMessage / ReminderDigestMessage) from the schedulers to {@link ReminderConsumer}.
+ * Selected with {@code reminder.transport}:
+ *  - rabbit (default): RabbitMQ lanes, retry tiers and DLQ, see {@link RabbitReminderTransport} / RabbitMQConfig
+ *  - inprocess: bounded queues and worker threads in this JVM, optionally journaled to disk,
+ *    see {@link InProcessReminderTransport}; needs no external service (prod profile)
+ */
+public interface ReminderTransport {
+
+    // hands the reminder to its lane; throws when the transport cannot take it (the caller retries)
+    void publish(Object payload, boolean urgent);
+
+    // takes the reminder now, durably, and delivers it to its lane at notBeforeMillis (right away when that has passed)
+    void publishAt(Object payload, boolean urgent, long notBeforeMillis);
+
+    // delivers the reminder again as attempt nextAttempt after delayMillis, without blocking the caller
+    void retry(Object payload, boolean urgent, int nextAttempt, long delayMillis);
+
+    // parks a reminder that ran out of attempts where an operator can look at it
+    void deadLetter(Object payload, boolean urgent, int attempts, String error);
+}
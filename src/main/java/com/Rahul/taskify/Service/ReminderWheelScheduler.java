@@ -0,0 +1,232 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Model.Task;
+import com.Rahul.taskify.Model.User;
+import com.Rahul.taskify.Repository.TaskRepository;
+import com.Rahul.taskify.dto.DomainEvent;
+import com.Rahul.taskify.dto.ReminderMessage;
+import com.Rahul.taskify.dto.ReminderSlot;
+import com.Rahul.taskify.dto.TaskEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * reminder.mode=wheel: each task's reminder fires {@code reminder.wheel.offset} before its dueDate instead of
+ * in the daily batch scan. Pending reminders live in a {@link TimingWheel} keyed by task id:
+ *  - kept current by the task outbox events (create/update/assign/complete/delete reschedule or cancel in O(1))
+ *  - loaded at startup and topped up every {@code refill-interval} for tasks due within {@code horizon},
+ *    with at most {@code max-load} rows per load
+ *
+ * Task.reminderSentFor records the due date a reminder went out for. A restart therefore neither loses nor
+ * repeats reminders, and with several instances only the one that claims the row publishes.
+ */
+@Component
+@ConditionalOnProperty(name = "reminder.mode", havingValue = "wheel")
+public class ReminderWheelScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderWheelScheduler.class);
+
+    private final TaskRepository taskRepository;
+    private final ReminderTransport transport;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readWrite;
+    private final TransactionTemplate readOnly;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${reminder.zone}")
+    private ZoneId zone;
+
+    @Value("${reminder.wheel.offset:1h}")
+    private Duration offset;
+
+    @Value("${reminder.wheel.tick:1s}")
+    private Duration tick;
+
+    @Value("${reminder.wheel.size:4096}")
+    private int wheelSize;
+
+    @Value("${reminder.wheel.horizon:2d}")
+    private Duration horizon;
+
+    @Value("${reminder.wheel.max-load:100000}")
+    private int maxLoad;
+
+    @Value("${reminder.wheel.retry-delay:1m}")
+    private Duration retryDelay;
+
+    private TimingWheel<Long> wheel;
+    private Thread ticker;
+    private volatile boolean running;
+    private final ExecutorService firing = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "reminder-wheel-fire");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Counter published;
+    private Counter skipped;
+    private Counter failed;
+    private Timer delay;
+
+    public ReminderWheelScheduler(TaskRepository taskRepository, ReminderTransport transport, ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.transport = transport;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void start() {
+        wheel = new TimingWheel<>(tick.toMillis(), wheelSize, System.currentTimeMillis());
+        Gauge.builder("reminder.wheel.pending", wheel, TimingWheel::size)
+                .description("Reminders waiting in the timing wheel").register(meterRegistry);
+        published = Counter.builder("reminder.wheel.fired").tag("result", "published").register(meterRegistry);
+        skipped = Counter.builder("reminder.wheel.fired").tag("result", "skipped").register(meterRegistry);
+        failed = Counter.builder("reminder.wheel.fired").tag("result", "failed").register(meterRegistry);
+        delay = Timer.builder("reminder.wheel.delay")
+                .description("How late a reminder was published compared to dueDate - offset").register(meterRegistry);
+
+        running = true;
+        ticker = new Thread(this::tickLoop, "reminder-wheel");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        ticker.interrupt();
+        firing.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refill();
+    }
+
+    // picks up tasks whose due date moved into the horizon since the last load
+    @Scheduled(initialDelayString = "${reminder.wheel.refill-interval:1h}", fixedDelayString = "${reminder.wheel.refill-interval:1h}")
+    public void refill() {
+        LocalDateTime now = LocalDateTime.now(zone);
+        List<ReminderSlot> slots = readOnly.execute(status ->
+                taskRepository.findPendingReminders(now, now.plus(horizon), PageRequest.of(0, maxLoad)));
+        if (slots == null) {
+            return;
+        }
+        slots.forEach(slot -> schedule(slot.getTaskId(), slot.getDueDate()));
+        if (slots.size() == maxLoad) {
+            log.warn("⚠️ Reminder wheel load hit max-load={}, later tasks come with the next refill", maxLoad);
+        }
+        log.info("🕒 Reminder wheel loaded {} tasks, {} pending", slots.size(), wheel.size());
+    }
+
+    @EventListener(condition = "#event.aggregateType == T(com.Rahul.taskify.dto.DomainEvent).TASK")
+    public void onTaskEvent(DomainEvent event) throws Exception {
+        TaskEvent task = objectMapper.readValue(event.getPayload(), TaskEvent.class);
+        if (DomainEvent.TASK_DELETED.equals(event.getEventType()) || task.isCompleted()
+                || task.getDueDate() == null || task.getAssignedToId() == null) {
+            wheel.cancel(task.getTaskId());
+            return;
+        }
+        schedule(task.getTaskId(), task.getDueDate());
+    }
+
+    private void schedule(Long taskId, LocalDateTime dueDate) {
+        LocalDateTime now = LocalDateTime.now(zone);
+        if (!dueDate.isAfter(now) || dueDate.isAfter(now.plus(horizon))) {
+            wheel.cancel(taskId); // overdue, or far enough out for a later refill
+            return;
+        }
+        wheel.schedule(taskId, fireAt(dueDate));
+    }
+
+    private void tickLoop() {
+        while (running) {
+            try {
+                Thread.sleep(tick.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            for (Long taskId : wheel.advance(System.currentTimeMillis())) {
+                firing.execute(() -> fire(taskId));
+            }
+        }
+    }
+
+    private void fire(Long taskId) {
+        try {
+            readWrite.executeWithoutResult(status -> publishIfStillDue(taskId));
+        } catch (RuntimeException e) {
+            failed.increment();
+            wheel.schedule(taskId, System.currentTimeMillis() + retryDelay.toMillis());
+            log.error("❌ Reminder for task ID: {} failed, retrying in {}", taskId, retryDelay, e);
+        }
+    }
+
+    private void publishIfStillDue(Long taskId) {
+        Task task = taskRepository.findById(taskId).orElse(null);
+        User assignedUser = task == null ? null : task.getAssignedTo();
+        if (task == null || task.isCompleted() || task.getDueDate() == null
+                || assignedUser == null || assignedUser.getEmail() == null
+                || !task.getDueDate().isAfter(LocalDateTime.now(zone))) {
+            skipped.increment();
+            return;
+        }
+        long fireAt = fireAt(task.getDueDate());
+        long now = System.currentTimeMillis();
+        if (fireAt > now + tick.toMillis()) {
+            wheel.schedule(taskId, fireAt); // due date moved later, its event has not reached us yet
+            return;
+        }
+        if (taskRepository.markReminderSent(taskId, task.getDueDate()) == 0) {
+            skipped.increment(); // already sent (restart, other instance)
+            return;
+        }
+        ReminderMessage message = new ReminderMessage(
+                task.getId(),
+                assignedUser.getEmail(),
+                assignedUser.getUserName(),
+                task.getTitle(),
+                task.getDueDate().toLocalDate().toString(),
+                now,
+                ReminderLanes.isUrgent(task, zone),
+                task.getDueDate().toLocalDate().toString() // one reminder per due date, like reminderSentFor
+        );
+        transport.publish(message, message.isUrgent());
+        published.increment();
+        delay.record(Math.max(0, now - fireAt), TimeUnit.MILLISECONDS);
+        log.info("📤 Reminder enqueued for task ID: {}", taskId);
+    }
+
+    private long fireAt(LocalDateTime dueDate) {
+        return dueDate.minus(offset).atZone(zone).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,102 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Model.User;
+import com.Rahul.taskify.Repository.TaskRepository;
+import com.Rahul.taskify.Repository.UserRepository;
+import com.Rahul.taskify.Util.AuthUtil;
+import com.Rahul.taskify.dto.BoardCard;
+import com.Rahul.taskify.dto.BoardColumn;
+import com.Rahul.taskify.dto.BoardRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kanban board of the logged-in user's tasks: every status column with its first {@code task.board.column-limit}
+ * cards and its full count, read with one windowed query (TaskRepository.findBoardRows) instead of one
+ * getByStatus query per column.
+ *
+ * The board is cached in "taskBoard" under the user's id. TaskService evicts the board of a task's assignee on
+ * each change (and of the previous assignee on reassignment), after commit like the calendar buckets.
+ */
+@Service
+public class TaskBoardService {
+
+    static final String CACHE = "taskBoard";
+
+    // always on the board in this order, even when empty; any other status gets a column after them
+    static final List<String> COLUMNS = List.of("Pending", "In Progress", "Completed");
+
+    private final TaskRepository repo;
+    private final UserRepository userRepo;
+    private final CacheManager cacheManager;
+
+    @Value("${task.board.column-limit:20}")
+    private int columnLimit;
+
+    public TaskBoardService(TaskRepository repo, UserRepository userRepo, CacheManager cacheManager) {
+        this.repo = repo;
+        this.userRepo = userRepo;
+        this.cacheManager = cacheManager;
+    }
+
+    // public so the caching proxy can use it in the key
+    public Long getCurrentUserId() {
+        return AuthUtil.getCurrentUser(userRepo).getId();
+    }
+
+    @Cacheable(value = CACHE, key = "#root.target.getCurrentUserId()")
+    @Transactional // primary, not a replica: what is read here gets cached
+    public List<BoardColumn> getBoard() {
+        return columns(repo.findBoardRows(getCurrentUserId(), columnLimit));
+    }
+
+    // rows arrive grouped by status, cards in board order
+    static List<BoardColumn> columns(List<BoardRow> rows) {
+        Map<String, BoardColumn> columns = new LinkedHashMap<>();
+        COLUMNS.forEach(status -> columns.put(status, new BoardColumn(status, 0, new ArrayList<>())));
+        for (BoardRow row : rows) {
+            BoardColumn column = columns.computeIfAbsent(row.getStatus(),
+                    status -> new BoardColumn(status, 0, new ArrayList<>()));
+            column.setCount(row.getTotal());
+            column.getCards().add(new BoardCard(row.getId(), row.getTitle(), row.getDueDate(), row.getPriority()));
+        }
+        return new ArrayList<>(columns.values());
+    }
+
+    // Drops the assignee's cached board; after commit, so a concurrent read cannot cache the old state again
+    public void evictBoard(User assignee) {
+        if (assignee == null || assignee.getId() == null) {
+            return;
+        }
+        Long key = assignee.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(key);
+                }
+            });
+        } else {
+            cache().evict(key);
+        }
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE);
+        if (cache == null) {
+            throw new IllegalStateException("Cache '" + CACHE + "' is not configured (spring.cache.cache-names)");
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,133 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Model.Task;
+import com.Rahul.taskify.Model.User;
+import com.Rahul.taskify.Repository.TaskRepository;
+import com.Rahul.taskify.Repository.UserRepository;
+import com.Rahul.taskify.Util.AuthUtil;
+import com.Rahul.taskify.dto.CalendarDay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calendar view of the logged-in user's tasks, backed by one "taskDays" cache entry per user and day
+ * ({@code <userId>:<yyyy-MM-dd>}, the tasks assigned to the user that are due that day).
+ *
+ * Any range is assembled from these buckets, so overlapping views (this month / next week) share entries.
+ * The days not in the cache are loaded with a single query spanning the first to the last missing day and all of
+ * them are cached, free days included. TaskService evicts only the buckets of a task's old and new due date.
+ */
+@Service
+public class TaskCalendarService {
+
+    static final String CACHE = "taskDays";
+
+    private final TaskRepository repo;
+    private final UserRepository userRepo;
+    private final CacheManager cacheManager;
+
+    @Value("${task.calendar.max-days:92}")
+    private int maxDays;
+
+    public TaskCalendarService(TaskRepository repo, UserRepository userRepo, CacheManager cacheManager) {
+        this.repo = repo;
+        this.userRepo = userRepo;
+        this.cacheManager = cacheManager;
+    }
+
+    // from..to inclusive, one entry per day
+    @Transactional // primary, not a replica: what is read here gets cached
+    public List<CalendarDay> getCalendar(LocalDate from, LocalDate to) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days < 1 || days > maxDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "'from' must not be after 'to' and the range can span at most " + maxDays + " days");
+        }
+        Long userId = AuthUtil.getCurrentUser(userRepo).getId();
+        Cache cache = cache();
+
+        Map<LocalDate, List<Task>> buckets = new HashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Cache.ValueWrapper cached = cache.get(key(userId, day));
+            if (cached != null) {
+                @SuppressWarnings("unchecked")
+                List<Task> tasks = (List<Task>) cached.get();
+                buckets.put(day, tasks);
+            } else {
+                if (firstMissing == null) {
+                    firstMissing = day;
+                }
+                lastMissing = day;
+            }
+        }
+
+        if (firstMissing != null) {
+            Map<LocalDate, List<Task>> loaded = new HashMap<>();
+            for (Task task : repo.findAssignedDueBetween(userId, firstMissing.atStartOfDay(),
+                    lastMissing.plusDays(1).atStartOfDay())) {
+                loaded.computeIfAbsent(task.getDueDate().toLocalDate(), d -> new ArrayList<>()).add(task);
+            }
+            for (LocalDate day = firstMissing; !day.isAfter(lastMissing); day = day.plusDays(1)) {
+                if (!buckets.containsKey(day)) {
+                    List<Task> tasks = loaded.getOrDefault(day, List.of());
+                    cache.put(key(userId, day), tasks);
+                    buckets.put(day, tasks);
+                }
+            }
+        }
+
+        List<CalendarDay> calendar = new ArrayList<>((int) days);
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            calendar.add(new CalendarDay(day, buckets.get(day)));
+        }
+        return calendar;
+    }
+
+    // Drops the bucket holding a task due at dueDate for this assignee; after commit, so a concurrent read cannot
+    // cache the old state again in between
+    public void evictDay(User assignee, LocalDateTime dueDate) {
+        if (assignee == null || assignee.getId() == null || dueDate == null) {
+            return;
+        }
+        String key = key(assignee.getId(), dueDate.toLocalDate());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(key);
+                }
+            });
+        } else {
+            cache().evict(key);
+        }
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE);
+        if (cache == null) {
+            throw new IllegalStateException("Cache '" + CACHE + "' is not configured (spring.cache.cache-names)");
+        }
+        return cache;
+    }
+
+    private static String key(Long userId, LocalDate day) {
+        return userId + ":" + day;
+    }
+}
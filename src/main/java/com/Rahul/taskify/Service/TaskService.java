@@ -3,17 +3,22 @@ package com.Rahul.taskify.Service;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import com.Rahul.taskify.Model.Task;
 import com.Rahul.taskify.Model.User;
 import com.Rahul.taskify.Repository.TaskRepository;
 import com.Rahul.taskify.Repository.UserRepository;
 import com.Rahul.taskify.Util.AuthUtil;
+import com.Rahul.taskify.dto.DomainEvent;
+import com.Rahul.taskify.dto.FocusTask;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
@@ -31,6 +36,21 @@ public class TaskService {
     @Autowired
     private UserRepository userRepo;
 
+    @Autowired
+    private OutboxService outbox;
+
+    @Autowired
+    private TaskCalendarService calendar;
+
+    @Autowired
+    private TaskBoardService board;
+
+    @Autowired
+    private FocusIndex focusIndex;
+
+    @Value("${task.focus.max-limit:50}")
+    private int focusMaxLimit;
+
     // ----------------- Helper methods -----------------
 
     private boolean isAdmin(User user) {
@@ -43,10 +63,17 @@ public class TaskService {
     }
 
     // ----------------- CRUD methods -----------------
+    // The @Cacheable reads are not readOnly on purpose: they run on the primary (see ReplicaRoutingDataSource),
+    // a miss filled from a lagging replica would stay cached until the next eviction. They write nothing, so they
+    // do not pin the user to the primary (see WriteTrackingDataSource).
 
     // Create task for the logged-in user
-    @CachePut(value = "tasks", key = "#result.assignedTo.id")
-    @CacheEvict(value = "tasksPaged", allEntries = true)
+    // evict, not put: "tasks" holds the assignee's List<Task> under this key, not a single Task
+    @Caching(evict = {
+            @CacheEvict(value = "tasks", key = "#result.assignedTo.id"),
+            @CacheEvict(value = "tasksPaged", allEntries = true)
+    })
+    @Transactional
     public Task createTask(Task task) {
         User currentUser = AuthUtil.getCurrentUser(userRepo);
         task.setCreatedBy(currentUser);
@@ -54,12 +81,19 @@ public class TaskService {
         LocalDateTime now = LocalDateTime.now();
         task.setCreatedAt(now);
         task.setUpdatedAt(now);
-        return repo.save(task);
+        Task saved = repo.save(task);
+        outbox.taskChanged(DomainEvent.TASK_CREATED, saved);
+        calendar.evictDay(saved.getAssignedTo(), saved.getDueDate());
+        board.evictBoard(saved.getAssignedTo());
+        return saved;
     }
 
     // Create task for another user (used when admin provides userId OR assignedTo.id)
-    @CachePut(value = "tasks", key = "#result.assignedTo.id")
-    @CacheEvict(value = "tasksPaged", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "tasks", key = "#result.assignedTo.id"),
+            @CacheEvict(value = "tasksPaged", allEntries = true)
+    })
+    @Transactional
     public Task createTask(Task task, Long targetUserId) {
         User currentUser = AuthUtil.getCurrentUser(userRepo);
         task.setCreatedBy(currentUser);
@@ -80,17 +114,23 @@ public class TaskService {
         LocalDateTime now = LocalDateTime.now();
         task.setCreatedAt(now);
         task.setUpdatedAt(now);
-        return repo.save(task);
+        Task saved = repo.save(task);
+        outbox.taskChanged(DomainEvent.TASK_CREATED, saved);
+        calendar.evictDay(saved.getAssignedTo(), saved.getDueDate());
+        board.evictBoard(saved.getAssignedTo());
+        return saved;
     }
 
 
     @Cacheable(value = "tasks", key = "#root.target.getCurrentUserId()")
+    @Transactional
     public List<Task> getAllTask() {
         User user = AuthUtil.getCurrentUser(userRepo);
         return isAdmin(user) ? repo.findAll() : repo.findAllByAssignedTo(user);
     }
 
     @Cacheable(value = "task", key = "#id")
+    @Transactional
     public Task getTaskById(long id) {
         User user = AuthUtil.getCurrentUser(userRepo);
         return isAdmin(user)
@@ -101,12 +141,14 @@ public class TaskService {
 
     @CachePut(value = "task", key = "#id")
     @CacheEvict(value = "tasks", key = "#result.assignedTo.id", beforeInvocation = false)
+    @Transactional
     public Task updateTask(long id, Task updatedTask) {
         User user = AuthUtil.getCurrentUser(userRepo);
         Task task = isAdmin(user)
                 ? repo.findById(id).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"))
                 : repo.findByIdAndAssignedTo(id, user)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found for this user"));
+        LocalDateTime oldDueDate = task.getDueDate();
 
         if (updatedTask.getTitle() != null) task.setTitle(updatedTask.getTitle());
         if (updatedTask.getDescription() != null) task.setDescription(updatedTask.getDescription());
@@ -115,21 +157,31 @@ public class TaskService {
         if (updatedTask.getStatus() != null) task.setStatus(updatedTask.getStatus());
         task.setCompleted(updatedTask.isCompleted());
         task.setUpdatedAt(LocalDateTime.now());
-        return repo.save(task);
+        Task saved = repo.save(task);
+        outbox.taskChanged(DomainEvent.TASK_UPDATED, saved);
+        calendar.evictDay(saved.getAssignedTo(), oldDueDate);
+        calendar.evictDay(saved.getAssignedTo(), saved.getDueDate());
+        board.evictBoard(saved.getAssignedTo());
+        return saved;
     }
 
     @CacheEvict(value = "task", key = "#id")
+    @Transactional
     public void deleteTask(long id) {
         User user = AuthUtil.getCurrentUser(userRepo);
         Task task = isAdmin(user)
                 ? repo.findById(id).orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id))
                 : repo.findByIdAndAssignedTo(id, user)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+        outbox.taskChanged(DomainEvent.TASK_DELETED, task);
+        calendar.evictDay(task.getAssignedTo(), task.getDueDate());
+        board.evictBoard(task.getAssignedTo());
         repo.delete(task);
     }
 
     @CachePut(value = "task", key = "#taskId")
     @CacheEvict(value = "tasks", key = "#result.assignedTo.id", beforeInvocation = false)
+    @Transactional
     public Task updateTaskStatus(Long taskId, String status) {
         User user = AuthUtil.getCurrentUser(userRepo);
         Task task = isAdmin(user)
@@ -138,12 +190,17 @@ public class TaskService {
         if (task != null) {
             task.setStatus(status);
             task.setUpdatedAt(LocalDateTime.now());
-            return repo.save(task);
+            Task saved = repo.save(task);
+            outbox.taskChanged(DomainEvent.TASK_UPDATED, saved);
+            calendar.evictDay(saved.getAssignedTo(), saved.getDueDate());
+            board.evictBoard(saved.getAssignedTo());
+            return saved;
         }
         return null;
     }
 
     @Cacheable(value = "tasks", key = "#status + '-' + #root.target.getCurrentUserId()")
+    @Transactional
     public List<Task> getTasksByStatus(String status) {
         User user = AuthUtil.getCurrentUser(userRepo);
         return isAdmin(user)
@@ -152,6 +209,7 @@ public class TaskService {
     }
 
     @Cacheable(value = "tasks", key = "#priority + '-' + #root.target.getCurrentUserId()")
+    @Transactional
     public List<Task> getTasksByPriority(String priority) {
         User user = AuthUtil.getCurrentUser(userRepo);
         return isAdmin(user)
@@ -160,6 +218,7 @@ public class TaskService {
     }
 
     @Cacheable(value = "tasks", key = "#dueDateString + '-' + #root.target.getCurrentUserId()")
+    @Transactional
     public List<Task> getTasksByDueDate(String dueDateString) {
         User user = AuthUtil.getCurrentUser(userRepo);
         try {
@@ -179,17 +238,26 @@ public class TaskService {
 
     @CachePut(value = "task", key = "#taskId")
     @CacheEvict(value = "tasks", allEntries = true)
+    @Transactional
     public Task assignTaskToUser(long taskId, User targetUser) {
         User currentUser = AuthUtil.getCurrentUser(userRepo);
         Task task = isAdmin(currentUser)
                 ? repo.findById(taskId).orElseThrow(() -> new EntityNotFoundException("Task not found"))
                 : repo.findByIdAndAssignedTo(taskId, currentUser)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+        User previousAssignee = task.getAssignedTo();
         task.setAssignedTo(targetUser);
-        return repo.save(task);
+        Task saved = repo.save(task);
+        outbox.taskChanged(DomainEvent.TASK_ASSIGNED, saved);
+        calendar.evictDay(previousAssignee, saved.getDueDate());
+        board.evictBoard(previousAssignee);
+        calendar.evictDay(saved.getAssignedTo(), saved.getDueDate());
+        board.evictBoard(saved.getAssignedTo());
+        return saved;
     }
 
     @Cacheable(value = "tasks", key = "#userId")
+    @Transactional
     public List<Task> getTasksByUser(long userId) {
         User user = userRepo.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
@@ -197,6 +265,7 @@ public class TaskService {
     }
 
     @Cacheable(value = "tasks", key = "#startDate + '-' + #endDate + '-' + #root.target.getCurrentUserId()")
+    @Transactional
     public List<Task> getTasksByDateRange(String startDate, String endDate) {
         User user = AuthUtil.getCurrentUser(userRepo);
         LocalDateTime start = LocalDateTime.parse(startDate);
@@ -208,6 +277,7 @@ public class TaskService {
 
     @CachePut(value = "task", key = "#taskId")
     @CacheEvict(value = "tasks", key = "#result.assignedTo.id", beforeInvocation = false)
+    @Transactional
     public Task markTaskAsCompleted(long taskId) {
         User user = AuthUtil.getCurrentUser(userRepo);
         Task task = isAdmin(user)
@@ -217,18 +287,32 @@ public class TaskService {
         task.setCompleted(true);
         task.setStatus("Completed");
         task.setUpdatedAt(LocalDateTime.now());
-        return repo.save(task);
+        Task saved = repo.save(task);
+        outbox.taskChanged(DomainEvent.TASK_COMPLETED, saved);
+        calendar.evictDay(saved.getAssignedTo(), saved.getDueDate());
+        board.evictBoard(saved.getAssignedTo());
+        return saved;
     }
 
     @Cacheable(value = "tasksPaged", key = "#pageable.pageNumber + '-' + #pageable.pageSize + '-' + #root.target.getCurrentUserId()")
+    @Transactional
     public Page<Task> getAllTaskPaged(Pageable pageable) {
         User user = AuthUtil.getCurrentUser(userRepo);
         return isAdmin(user) ? repo.findAll(pageable) : repo.findAllByAssignedTo(user, pageable);
     }
 
+    // Most important open tasks of the logged-in user, read off FocusIndex (kept current by the task events)
+    public List<FocusTask> getFocusTasks(int limit) {
+        if (limit < 1 || limit > focusMaxLimit) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + focusMaxLimit);
+        }
+        return focusIndex.top(getCurrentUserId(), limit);
+    }
+
     // ----------------- Priority/Status helpers -----------------
+    // lower = more important; used by FocusIndex to rank the focus view
 
-    private int getPriorityValue(String priority) {
+    static int getPriorityValue(String priority) {
         return switch (priority) {
             case "High" -> 1;
             case "Medium" -> 2;
@@ -237,7 +321,7 @@ public class TaskService {
         };
     }
 
-    private int getStatusValue(String status) {
+    static int getStatusValue(String status) {
         return switch (status.toLowerCase()) {
             case "completed" -> 1;
             case "in progress" -> 2;
@@ -0,0 +1,118 @@
+package com.Rahul.taskify.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel keyed by K (one pending deadline per key).
+ *
+ * Deadlines are rounded up to {@code tickMillis} and hashed into {@code wheelSize} buckets (doubly linked lists),
+ * deadlines further away than one revolution simply stay in their bucket until their tick comes round.
+ * schedule / reschedule / cancel are O(1); {@link #advance(long)} visits one bucket per elapsed tick.
+ * Not tied to a clock or thread: the owner calls advance() with the current time and handles what expired.
+ */
+public class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final Entry<K>[] buckets;
+    private final int mask;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    private long currentTick; // every tick before this one has been processed
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long originMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = originMillis;
+        this.buckets = new Entry[wheelSize];
+        this.mask = wheelSize - 1;
+    }
+
+    // (re)schedules key; a deadline already passed fires at the next tick
+    public synchronized void schedule(K key, long deadlineMillis) {
+        Entry<K> existing = entries.remove(key);
+        if (existing != null) {
+            unlink(existing);
+        }
+        long tick = Math.max(Math.floorDiv(deadlineMillis - originMillis + tickMillis - 1, tickMillis), currentTick);
+        Entry<K> entry = new Entry<>(key, tick, deadlineMillis);
+        int index = (int) (tick & mask);
+        entry.next = buckets[index];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        buckets[index] = entry;
+        entries.put(key, entry);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    // processes every tick up to nowMillis and returns the keys that expired, in no particular order
+    public synchronized List<K> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        List<K> expired = new ArrayList<>();
+        while (currentTick <= targetTick) {
+            Entry<K> entry = buckets[(int) (currentTick & mask)];
+            while (entry != null) {
+                Entry<K> next = entry.next;
+                if (entry.tick <= currentTick) {
+                    unlink(entry);
+                    entries.remove(entry.key);
+                    expired.add(entry.key);
+                }
+                entry = next;
+            }
+            currentTick++;
+        }
+        return expired;
+    }
+
+    public synchronized Long deadlineOf(K key) {
+        Entry<K> entry = entries.get(key);
+        return entry == null ? null : entry.deadlineMillis;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void unlink(Entry<K> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[(int) (entry.tick & mask)] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long tick;
+        private final long deadlineMillis;
+        private Entry<K> prev;
+        private Entry<K> next;
+
+        private Entry(K key, long tick, long deadlineMillis) {
+            this.key = key;
+            this.tick = tick;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
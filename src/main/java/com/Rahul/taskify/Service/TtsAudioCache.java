@@ -0,0 +1,344 @@
+package com.Rahul.taskify.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed cache for generated TTS audio.
+ *
+ * Entries are keyed by a SHA-256 of everything that influences the audio (text, voice, model, voice settings),
+ * so the same task title read out every morning only hits ElevenLabs once.
+ * Two tiers:
+ *  - memory: small LRU bounded by total bytes, for the hottest clips
+ *  - disk:   one file per key, LRU by last access (kept in memory, the file's mtime for entries not used since
+ *            startup), streamed from the file by the controller. Written on boundedElastic, since put() is called
+ *            from the WebClient's event loop. Entries handed out within {@code disk.eviction-grace} are not evicted,
+ *            so a reader can still open them.
+ */
+@Component
+public class TtsAudioCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TtsAudioCache.class);
+    private static final String FILE_SUFFIX = ".mp3";
+
+    @Value("${tts.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tts.cache.memory.max-bytes:33554432}")
+    private long memoryMaxBytes;
+
+    @Value("${tts.cache.memory.max-entry-bytes:1048576}")
+    private long memoryMaxEntryBytes;
+
+    @Value("${tts.cache.disk.dir:${java.io.tmpdir}/taskify-tts-cache}")
+    private Path diskDir;
+
+    @Value("${tts.cache.disk.max-bytes:536870912}")
+    private long diskMaxBytes;
+
+    @Value("${tts.cache.disk.eviction-grace:10s}")
+    private Duration evictionGrace;
+
+    private final MeterRegistry meterRegistry;
+
+    // access-ordered LinkedHashMap = simple LRU. Guarded by ReentrantLocks rather than synchronized so
+    // request threads don't pin their carrier when running on virtual threads (disk eviction does I/O).
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(64, 0.75f, true);
+    private final ReentrantLock memoryLock = new ReentrantLock();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private long memoryBytes;
+
+    private final AtomicLong diskBytes = new AtomicLong();
+    // key -> epoch millis of the last disk hit or write; no syscall per hit
+    private final Map<String, Long> diskLastAccess = new ConcurrentHashMap<>();
+
+    private Counter memoryHits;
+    private Counter diskHits;
+    private Counter misses;
+    private Counter evictions;
+
+    public TtsAudioCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        memoryHits = Counter.builder("tts.cache.requests").tag("result", "hit").tag("tier", "memory").register(meterRegistry);
+        diskHits = Counter.builder("tts.cache.requests").tag("result", "hit").tag("tier", "disk").register(meterRegistry);
+        misses = Counter.builder("tts.cache.requests").tag("result", "miss").tag("tier", "none").register(meterRegistry);
+        evictions = Counter.builder("tts.cache.evictions").register(meterRegistry);
+        Gauge.builder("tts.cache.size.bytes", this, c -> c.currentMemoryBytes()).tag("tier", "memory").register(meterRegistry);
+        Gauge.builder("tts.cache.size.bytes", diskBytes, AtomicLong::get).tag("tier", "disk").register(meterRegistry);
+
+        if (!enabled) {
+            log.info("TTS audio cache is disabled.");
+            return;
+        }
+        try {
+            Files.createDirectories(diskDir);
+            try (Stream<Path> files = Files.list(diskDir)) {
+                diskBytes.set(files.filter(p -> p.toString().endsWith(FILE_SUFFIX)).mapToLong(this::sizeOf).sum());
+            }
+            log.info("TTS audio cache ready at {} ({} bytes on disk)", diskDir, diskBytes.get());
+        } catch (IOException e) {
+            log.error("Could not initialise TTS disk cache at {}, falling back to memory only: {}", diskDir, e.getMessage());
+            diskMaxBytes = 0;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Everything that changes the produced audio has to be part of the key
+    public String keyFor(String text, String voiceId, String modelId, double stability, double similarityBoost) {
+        String material = String.join("\u0000",
+                text, voiceId, modelId, Double.toString(stability), Double.toString(similarityBoost));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(material.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Looks the key up in memory first, then on disk.
+     * Returns null on a miss.
+     */
+    public CachedAudio get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        byte[] bytes;
+        memoryLock.lock();
+        try {
+            bytes = memory.get(key);
+        } finally {
+            memoryLock.unlock();
+        }
+        if (bytes != null) {
+            memoryHits.increment();
+            return CachedAudio.ofBytes(bytes);
+        }
+
+        Path file = fileFor(key);
+        if (diskMaxBytes > 0 && Files.isRegularFile(file)) {
+            try {
+                CachedAudio hit = CachedAudio.ofFile(file, Files.size(file));
+                // so the disk tier evicts least recently *used* rather than least recently written
+                diskLastAccess.put(key, System.currentTimeMillis());
+                diskHits.increment();
+                return hit;
+            } catch (IOException e) {
+                log.warn("TTS disk cache entry {} unreadable: {}", key, e.getMessage());
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores the clip in memory right away and on disk in the background: callers may be on a Netty event loop,
+     * which must not block on file I/O or disk eviction.
+     */
+    public void put(String key, byte[] audio) {
+        if (!enabled || audio == null || audio.length == 0) {
+            return;
+        }
+        if (audio.length <= memoryMaxEntryBytes) {
+            putInMemory(key, audio);
+        }
+        if (diskMaxBytes > 0 && audio.length <= diskMaxBytes) {
+            Mono.fromRunnable(() -> writeToDisk(key, audio))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe();
+        }
+    }
+
+    private void putInMemory(String key, byte[] audio) {
+        memoryLock.lock();
+        try {
+            byte[] previous = memory.put(key, audio);
+            memoryBytes += audio.length - (previous == null ? 0 : previous.length);
+            Iterator<Map.Entry<String, byte[]>> it = memory.entrySet().iterator();
+            while (memoryBytes > memoryMaxBytes && it.hasNext()) {
+                Map.Entry<String, byte[]> eldest = it.next();
+                memoryBytes -= eldest.getValue().length;
+                it.remove();
+                evictions.increment();
+            }
+        } finally {
+            memoryLock.unlock();
+        }
+    }
+
+    private void writeToDisk(String key, byte[] audio) {
+        Path target = fileFor(key);
+        try {
+            // write to a temp file and move it in place so readers never see a half-written clip
+            Path tmp = Files.createTempFile(diskDir, key, ".tmp");
+            Files.write(tmp, audio);
+            long previous = Files.isRegularFile(target) ? sizeOf(target) : 0;
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            diskLastAccess.put(key, System.currentTimeMillis());
+            if (diskBytes.addAndGet(audio.length - previous) > diskMaxBytes) {
+                evictFromDisk();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write TTS cache entry {} to disk: {}", key, e.getMessage());
+        }
+    }
+
+    private void evictFromDisk() {
+        if (!evictionLock.tryLock()) {
+            return; // another thread is already evicting
+        }
+        try {
+            evictFromDiskLocked();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evictFromDiskLocked() {
+        if (diskBytes.get() <= diskMaxBytes) {
+            return;
+        }
+        // get() records an access when it hands a file out: anything used within the grace period may be about to
+        // be opened by the controller, so it is kept (the tier can briefly exceed max-bytes).
+        // Access times are snapshotted before sorting, hits keep updating them meanwhile.
+        long graceStart = System.currentTimeMillis() - evictionGrace.toMillis();
+        List<DiskEntry> entries;
+        try (Stream<Path> stream = Files.list(diskDir)) {
+            entries = stream.filter(p -> p.toString().endsWith(FILE_SUFFIX))
+                    .map(this::diskEntry)
+                    .sorted(Comparator.comparingLong(DiskEntry::lastAccess))
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Failed to list TTS disk cache for eviction: {}", e.getMessage());
+            return;
+        }
+        for (DiskEntry entry : entries) {
+            if (diskBytes.get() <= diskMaxBytes || entry.lastAccess() > graceStart) {
+                break; // sorted oldest first: the rest is in use too
+            }
+            long size = sizeOf(entry.file());
+            try {
+                if (Files.deleteIfExists(entry.file())) {
+                    diskLastAccess.remove(entry.key());
+                    diskBytes.addAndGet(-size);
+                    evictions.increment();
+                }
+            } catch (IOException e) {
+                log.warn("Failed to evict TTS cache file {}: {}", entry.file(), e.getMessage());
+            }
+        }
+    }
+
+    private DiskEntry diskEntry(Path file) {
+        String name = file.getFileName().toString();
+        String key = name.substring(0, name.length() - FILE_SUFFIX.length());
+        Long accessed = diskLastAccess.get(key);
+        return new DiskEntry(key, file, accessed != null ? accessed : lastModified(file).toMillis());
+    }
+
+    private long currentMemoryBytes() {
+        memoryLock.lock();
+        try {
+            return memoryBytes;
+        } finally {
+            memoryLock.unlock();
+        }
+    }
+
+    private Path fileFor(String key) {
+        return diskDir.resolve(key + FILE_SUFFIX);
+    }
+
+    private long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private record DiskEntry(String key, Path file, long lastAccess) {
+    }
+
+    /**
+     * A cache hit: either the bytes themselves (memory tier) or a file to stream from (disk tier).
+     */
+    public static final class CachedAudio {
+        private final byte[] bytes;
+        private final Path file;
+        private final long length;
+
+        private CachedAudio(byte[] bytes, Path file, long length) {
+            this.bytes = bytes;
+            this.file = file;
+            this.length = length;
+        }
+
+        public static CachedAudio ofBytes(byte[] bytes) {
+            return new CachedAudio(bytes, null, bytes.length);
+        }
+
+        public static CachedAudio ofFile(Path file, long length) {
+            return new CachedAudio(null, file, length);
+        }
+
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public boolean isFile() {
+            return file != null;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.Rahul.taskify.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits concurrent ElevenLabs calls to {@code max-in-flight}, with a bounded FIFO queue behind it.
+ *
+ * Non-blocking: a waiting caller holds no thread, it is just a pending Mono that gets a permit when
+ * an in-flight call finishes. Callers beyond the queue (or waiting longer than {@code max-wait}) are
+ * rejected with {@link TtsUnavailableException}.
+ */
+@Component
+public class TtsBulkhead {
+
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final Duration maxWait;
+
+    // ReentrantLock instead of synchronized: no carrier pinning when callers run on virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<MonoSink<Permit>> waiters = new ArrayDeque<>();
+    private int inFlight;
+
+    private final Counter rejected;
+
+    public TtsBulkhead(MeterRegistry meterRegistry,
+                       @Value("${elevenlabs.bulkhead.max-in-flight:8}") int maxInFlight,
+                       @Value("${elevenlabs.bulkhead.max-queued:32}") int maxQueued,
+                       @Value("${elevenlabs.bulkhead.max-wait:10s}") Duration maxWait) {
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.maxWait = maxWait;
+
+        Gauge.builder("elevenlabs.bulkhead.in-flight", this, TtsBulkhead::inFlight).register(meterRegistry);
+        Gauge.builder("elevenlabs.bulkhead.queued", this, TtsBulkhead::queued).register(meterRegistry);
+        this.rejected = Counter.builder("elevenlabs.bulkhead.rejected").register(meterRegistry);
+    }
+
+    // Runs the call once a permit is available and gives the permit back on complete, error or cancel
+    public <T> Flux<T> limit(Flux<T> call) {
+        return Flux.usingWhen(acquire(), permit -> call, Permit::release);
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+                    boolean granted;
+                    lock.lock();
+                    try {
+                        if (inFlight < maxInFlight) {
+                            inFlight++;
+                            granted = true;
+                        } else if (waiters.size() < maxQueued) {
+                            waiters.addLast(sink);
+                            granted = false;
+                        } else {
+                            rejected.increment();
+                            sink.error(new TtsUnavailableException("TTS is busy, too many requests queued"));
+                            return;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    if (granted) {
+                        sink.success(new Permit());
+                    } else {
+                        sink.onCancel(() -> removeWaiter(sink));
+                    }
+                })
+                // a permit handed to a waiter that was cancelled in the meantime is discarded by the sink -> pass it on
+                .doOnDiscard(Permit.class, Permit::releaseNow)
+                .timeout(maxWait)
+                .onErrorMap(TimeoutException.class, e -> {
+                    rejected.increment();
+                    return new TtsUnavailableException("TTS is busy, timed out waiting for a free slot");
+                });
+    }
+
+    private void removeWaiter(MonoSink<Permit> sink) {
+        lock.lock();
+        try {
+            waiters.remove(sink);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void handOver() {
+        MonoSink<Permit> next;
+        lock.lock();
+        try {
+            next = waiters.pollFirst();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        // inFlight stays the same: the permit moves straight to the next waiter
+        next.success(new Permit());
+    }
+
+    private int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int queued() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Mono<Void> release() {
+            return Mono.fromRunnable(this::releaseNow);
+        }
+
+        void releaseNow() {
+            if (released.compareAndSet(false, true)) {
+                handOver();
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.Rahul.taskify.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fast-fail breaker in front of ElevenLabs.
+ *
+ * CLOSED    -> calls go through; {@code failure-threshold} consecutive failures open the breaker.
+ * OPEN      -> calls fail immediately with {@link TtsUnavailableException} for {@code open-duration}.
+ * HALF_OPEN -> a single trial call is let through; success closes the breaker, failure re-opens it.
+ */
+@Component
+public class TtsCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(TtsCircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    // ReentrantLock instead of synchronized: no carrier pinning when callers run on virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    private final Counter notPermitted;
+    private final Counter successes;
+    private final Counter failures;
+
+    public TtsCircuitBreaker(MeterRegistry meterRegistry,
+                             @Value("${elevenlabs.breaker.failure-threshold:5}") int failureThreshold,
+                             @Value("${elevenlabs.breaker.open-duration:30s}") Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+
+        Gauge.builder("elevenlabs.breaker.state", this, b -> b.getState().ordinal())
+                .description("0 = closed, 1 = open, 2 = half-open")
+                .register(meterRegistry);
+        this.notPermitted = Counter.builder("elevenlabs.breaker.calls").tag("outcome", "not_permitted").register(meterRegistry);
+        this.successes = Counter.builder("elevenlabs.breaker.calls").tag("outcome", "success").register(meterRegistry);
+        this.failures = Counter.builder("elevenlabs.breaker.calls").tag("outcome", "failure").register(meterRegistry);
+    }
+
+    public <T> Flux<T> protect(Flux<T> call) {
+        return Flux.defer(() -> {
+            if (!tryAcquirePermission()) {
+                notPermitted.increment();
+                return Flux.error(new TtsUnavailableException("TTS temporarily unavailable (upstream failing)"));
+            }
+            return call.doOnComplete(this::onSuccess)
+                    .doOnError(this::onError)
+                    .doOnCancel(this::releaseTrial);
+        });
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return currentState();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private State currentState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            switch (currentState()) {
+                case CLOSED:
+                    return true;
+                case HALF_OPEN:
+                    if (trialInFlight) {
+                        return false;
+                    }
+                    state = State.HALF_OPEN;
+                    trialInFlight = true;
+                    return true;
+                default:
+                    return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onError(Throwable error) {
+        if (error instanceof TtsUnavailableException) {
+            // rejected locally (e.g. bulkhead full) - says nothing about upstream health
+            releaseTrial();
+        } else {
+            onFailure();
+        }
+    }
+
+    // cancelled by the client: just free the half-open trial slot
+    private void releaseTrial() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess() {
+        successes.increment();
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            if (state != State.CLOSED) {
+                log.info("ElevenLabs circuit breaker closed again");
+                state = State.CLOSED;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onFailure() {
+        failures.increment();
+        lock.lock();
+        try {
+            trialInFlight = false;
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                if (state != State.OPEN) {
+                    log.warn("ElevenLabs circuit breaker opened after {} consecutive failures", consecutiveFailures);
+                }
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
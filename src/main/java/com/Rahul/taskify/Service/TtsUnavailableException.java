@@ -0,0 +1,12 @@
+package com.Rahul.taskify.Service;
+
+/**
+ * Thrown when a TTS call is refused locally (bulkhead full, circuit breaker open)
+ * rather than failing at ElevenLabs. Controllers map it to 503.
+ */
+public class TtsUnavailableException extends RuntimeException {
+
+    public TtsUnavailableException(String message) {
+        super(message);
+    }
+}
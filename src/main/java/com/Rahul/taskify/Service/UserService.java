@@ -15,7 +15,10 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
+import java.time.ZoneId;
 import java.util.*;
 
 @Service
@@ -33,8 +36,9 @@ public class UserService {
     private BCryptPasswordEncoder passwordEncoder;      // this is used to encrypt password before adding the user password to the database for security
 
     @Autowired
-    private EmailService emailService;
+    private OutboxService outbox;
 
+    @Transactional
     public ResponseEntity<?> registerUser(User user) {
         if (repo.findByUserName(user.getUserName()).isPresent()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Username already exists");
@@ -48,32 +52,29 @@ public class UserService {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Email is required");
         }
 
+        if (user.getTimeZone() != null && !user.getTimeZone().isBlank()) {
+            try {
+                user.setTimeZone(ZoneId.of(user.getTimeZone()).getId());
+            } catch (DateTimeException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Unknown time zone: " + user.getTimeZone());
+            }
+        } else {
+            user.setTimeZone(null);
+        }
+
         // Encrypt password and assign role
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         user.setRoles(Set.of("USER"));
 
-        // Save user to DB
+        // Save user to DB; the welcome email goes out via the outbox (WelcomeEmailListener) after commit
         repo.save(user);
-
-        // ✅ HTML styled welcome email body
-        String subject = "🎉 Welcome to Taskify!";
-        String body = "<h2>Hi " + user.getUserName() + ",</h2>" +
-                "<p>Thank you for registering on <strong>Taskify</strong>!</p>" +
-                "<p>We're excited to have you on board.</p>" +
-                "<br/><p>🚀 Start managing your tasks like a pro!</p>" +
-                "<br/><p style='color:gray;'>– The Taskify Team</p>";
-
-        try {
-            emailService.sendEmail(user.getEmail(), subject, body);
-        } catch (Exception e) {
-            System.err.println("Email sending failed: " + e.getMessage());
-            // Optional: Log this error
-        }
+        outbox.userRegistered(user);
 
         return ResponseEntity.ok("User registered successfully ");
     }
 
 
+    @Transactional
     public ResponseEntity<?> getUserByUserName(String userName) {
         Optional<User> user = repo.findByUserName(userName);
 
@@ -84,6 +85,9 @@ public class UserService {
         }
     }
 
+    // user lookups for login and authentication stay on the primary: a user who just registered (unauthenticated,
+    // so not pinned by read-your-writes) may not be on a lagging replica yet
+    @Transactional
     public ResponseEntity<?> loginUser(LoginRequest loginRequest) {
         try {
             System.out.println("DEBUG: Login request received for user -> " + loginRequest.getUserName());
@@ -119,16 +123,19 @@ public class UserService {
         }
     }
 
+    @Transactional
     public User getUserEntityByUsername(String username) {
         return repo.findByUserName(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
 
+    @Transactional(readOnly = true)
     public ResponseEntity<?> getAllUsers() {
         return ResponseEntity.ok(repo.findAll());
     }
 
+    @Transactional
     public ResponseEntity<?> deleteUser(long userId) {
         System.out.println("Hii till here is okay means delete method is being called properly ");
         Optional<User> userOptional = repo.findById(userId);
@@ -0,0 +1,52 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.DomainEvent;
+import com.Rahul.taskify.dto.UserRegisteredEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends the welcome email for USER_REGISTERED outbox events (previously sent on the registration request thread).
+ * The mail is only queued on MailDispatcher: this runs inside the relay transaction, which must not wait on SMTP.
+ * A full mail queue throws, so the relay retries the event; a failed SMTP send is logged (best effort).
+ */
+@Component
+public class WelcomeEmailListener {
+
+    private static final Logger log = LoggerFactory.getLogger(WelcomeEmailListener.class);
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @EventListener(condition = "#event.eventType == T(com.Rahul.taskify.dto.DomainEvent).USER_REGISTERED")
+    public void onUserRegistered(DomainEvent event) throws Exception {
+        UserRegisteredEvent user = objectMapper.readValue(event.getPayload(), UserRegisteredEvent.class);
+
+        // ✅ HTML styled welcome email body
+        String subject = "🎉 Welcome to Taskify!";
+        String body = "<h2>Hi " + user.getUserName() + ",</h2>" +
+                "<p>Thank you for registering on <strong>Taskify</strong>!</p>" +
+                "<p>We're excited to have you on board.</p>" +
+                "<br/><p>🚀 Start managing your tasks like a pro!</p>" +
+                "<br/><p style='color:gray;'>– The Taskify Team</p>";
+
+        CompletableFuture<Void> sent = emailService.sendEmailAsync(user.getEmail(), subject, body);
+        if (sent.isCompletedExceptionally()) {
+            sent.join(); // rejected right away (queue full / stopped): let the relay retry
+        }
+        sent.whenComplete((ok, error) -> {
+            if (error != null) {
+                log.warn("❌ Welcome email to {} failed: {}", user.getEmail(), error.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.Rahul.taskify.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// One task on /api/task/board, just what a card shows
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardCard implements Serializable {
+    private Long taskId;
+    private String title;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime dueDate;
+    private String priority;
+}
@@ -0,0 +1,18 @@
+package com.Rahul.taskify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+// One status column of /api/task/board: the first cards (soonest due first) and how many tasks the column holds
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardColumn implements Serializable {
+    private String status;
+    private long count;
+    private List<BoardCard> cards;
+}
@@ -0,0 +1,13 @@
+package com.Rahul.taskify.dto;
+
+import java.time.LocalDateTime;
+
+// Row of TaskRepository.findBoardRows: one card plus the size of its whole column (native query projection)
+public interface BoardRow {
+    Long getId();
+    String getTitle();
+    LocalDateTime getDueDate();
+    String getPriority();
+    String getStatus();
+    long getTotal();
+}
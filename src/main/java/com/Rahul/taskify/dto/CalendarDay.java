@@ -0,0 +1,18 @@
+package com.Rahul.taskify.dto;
+
+import com.Rahul.taskify.Model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// One day of /api/task/calendar: the tasks due that day, soonest first (empty list for a free day)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarDay {
+    private LocalDate date;
+    private List<Task> tasks;
+}
@@ -0,0 +1,33 @@
+package com.Rahul.taskify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * An outbox event as delivered to listeners (@EventListener DomainEvent), in-process or via RabbitMQ.
+ * Delivery is at-least-once: listeners must tolerate seeing the same {@code id} twice.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainEvent implements Serializable {
+
+    public static final String TASK = "Task";
+    public static final String USER = "User";
+
+    public static final String TASK_CREATED = "TASK_CREATED";
+    public static final String TASK_UPDATED = "TASK_UPDATED";
+    public static final String TASK_ASSIGNED = "TASK_ASSIGNED";
+    public static final String TASK_COMPLETED = "TASK_COMPLETED";
+    public static final String TASK_DELETED = "TASK_DELETED";
+    public static final String USER_REGISTERED = "USER_REGISTERED";
+
+    private Long id; // outbox row id, increasing per aggregate
+    private String aggregateType;
+    private Long aggregateId;
+    private String eventType;
+    private String payload; // JSON: TaskEvent / UserRegisteredEvent
+}
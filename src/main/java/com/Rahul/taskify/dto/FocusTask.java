@@ -0,0 +1,21 @@
+package com.Rahul.taskify.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One open task of /api/task/focus, most important first; also the projection the index is loaded with
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FocusTask {
+    private Long taskId;
+    private String title;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime dueDate;
+    private String priority;
+    private String status;
+}
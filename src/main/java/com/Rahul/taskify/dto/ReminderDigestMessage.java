@@ -0,0 +1,36 @@
+package com.Rahul.taskify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * One reminder email per user listing all their due tasks (reminder.digest.enabled=true),
+ * instead of one ReminderMessage per task.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderDigestMessage implements Serializable {
+    private Long userId;
+    private String email;
+    private String userName;
+    private List<Item> tasks; // at most reminder.digest.max-tasks, soonest due first
+    private int totalTasks;   // due tasks of the user, including the ones not listed
+    private Long enqueuedAt;  // epoch millis when the scheduler published it, used for the consume-lag metric
+    private boolean urgent;   // at least one listed task is urgent: goes through the urgent lane
+    private String reminderDate; // yyyy-MM-dd scan day in the user's zone; part of the delivery key
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item implements Serializable {
+        private Long taskId;
+        private String title;
+        private String dueDate;
+        private String priority;
+    }
+}
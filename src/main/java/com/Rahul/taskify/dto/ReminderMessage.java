@@ -15,4 +15,7 @@ public class ReminderMessage implements Serializable {
     private String userName;
     private String taskTitle;
     private String dueDate;
+    private Long enqueuedAt; // epoch millis when the scheduler published it, used for the consume-lag metric
+    private boolean urgent;  // High priority or due today: goes through the urgent lane
+    private String reminderDate; // yyyy-MM-dd the reminder is for (scan day in the user's zone, or the due date); part of its delivery key
 }
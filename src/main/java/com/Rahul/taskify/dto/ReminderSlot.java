@@ -0,0 +1,16 @@
+package com.Rahul.taskify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// A task waiting for its reminder: just what the timing wheel needs, loaded without the Task entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderSlot {
+    private Long taskId;
+    private LocalDateTime dueDate;
+}
@@ -0,0 +1,36 @@
+package com.Rahul.taskify.dto;
+
+import com.Rahul.taskify.Model.Task;
+import com.Rahul.taskify.Model.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload of the TASK_* outbox events: the task as it is after the change.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+    private Long taskId;
+    private String title;
+    private LocalDateTime dueDate;
+    private String priority;
+    private String status;
+    private boolean completed;
+    private Long assignedToId;
+    private String assignedToUserName;
+    private String assignedToEmail;
+
+    public static TaskEvent of(Task task) {
+        User assignee = task.getAssignedTo();
+        return new TaskEvent(task.getId(), task.getTitle(), task.getDueDate(), task.getPriority(), task.getStatus(),
+                task.isCompleted(),
+                assignee == null ? null : assignee.getId(),
+                assignee == null ? null : assignee.getUserName(),
+                assignee == null ? null : assignee.getEmail());
+    }
+}
@@ -0,0 +1,14 @@
+package com.Rahul.taskify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRegisteredEvent {
+    private Long userId;
+    private String userName;
+    private String email;
+}
@@ -0,0 +1,119 @@
+package com.Rahul.taskify.Configuration;
+
+import com.Rahul.taskify.Model.Task;
+import com.Rahul.taskify.Model.User;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Round trips of a "tasks" entry: tasks sharing users, with task and user ids overlapping, as a real list has.
+ */
+class CompactCacheSerializerTest {
+
+    private final CacheCodec jdk = CacheCodec.jdk(getClass().getClassLoader());
+    private final CacheCodec json = CacheCodec.json();
+    private final CacheCodec smile = CacheCodec.smile(Jackson2ObjectMapperBuilder.smile().build(),
+            TypeFactory.defaultInstance().constructCollectionType(List.class, Task.class));
+
+    @Test
+    void smileRoundTripKeepsSharedUsersAndOverlappingIds() {
+        List<Task> tasks = tasks(20, 3);
+
+        List<Task> read = roundTrip(new CompactCacheSerializer("tasks", smile, List.of(jdk), jdk, 0), tasks);
+
+        assertTasksEqual(tasks, read);
+        assertSame(read.get(0).getAssignedTo(), read.get(3).getAssignedTo()); // one user object, as written
+    }
+
+    @Test
+    void compressedEntriesRoundTrip() {
+        List<Task> tasks = tasks(200, 5);
+
+        assertTasksEqual(tasks, roundTrip(new CompactCacheSerializer("tasks", smile, List.of(jdk), jdk, 1024), tasks));
+        assertTasksEqual(tasks, roundTrip(new CompactCacheSerializer("tasks", json, List.of(jdk), jdk, 1024), tasks));
+    }
+
+    @Test
+    void jsonRoundTripHandlesDates() {
+        List<Task> tasks = tasks(5, 2);
+
+        assertTasksEqual(tasks, roundTrip(new CompactCacheSerializer("tasks", json, List.of(jdk), jdk, 0), tasks));
+    }
+
+    @Test
+    void readsEntriesOfAnotherCodecAndLegacyJdkEntries() {
+        List<Task> tasks = tasks(5, 2);
+        byte[] writtenAsJdk = new CompactCacheSerializer("tasks", jdk, List.of(), jdk, 0).serialize(tasks);
+        byte[] legacy = jdk.encode(tasks);
+
+        CompactCacheSerializer smileCache = new CompactCacheSerializer("tasks", smile, List.of(jdk), jdk, 0);
+        assertTasksEqual(tasks, cast(smileCache.deserialize(writtenAsJdk)));
+        assertTasksEqual(tasks, cast(smileCache.deserialize(legacy)));
+    }
+
+    @Test
+    void entryOfAnUnknownCodecIsAMiss() {
+        byte[] writtenAsSmile = new CompactCacheSerializer("tasks", smile, List.of(), jdk, 0).serialize(tasks(1, 1));
+
+        assertNull(new CompactCacheSerializer("tasks", jdk, List.of(), jdk, 0).deserialize(writtenAsSmile));
+    }
+
+    private static List<Task> roundTrip(CompactCacheSerializer serializer, List<Task> tasks) {
+        return cast(serializer.deserialize(serializer.serialize(tasks)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Task> cast(Object value) {
+        return (List<Task>) value;
+    }
+
+    private static void assertTasksEqual(List<Task> expected, List<Task> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Task want = expected.get(i);
+            Task got = actual.get(i);
+            assertEquals(want.getId(), got.getId());
+            assertEquals(want.getTitle(), got.getTitle());
+            assertEquals(want.getDueDate(), got.getDueDate());
+            assertEquals(want.getStatus(), got.getStatus());
+            assertEquals(want.getAssignedTo().getId(), got.getAssignedTo().getId());
+            assertEquals(want.getAssignedTo().getUserName(), got.getAssignedTo().getUserName());
+        }
+    }
+
+    // user i and task i share ids on purpose
+    private static List<Task> tasks(int count, int distinctUsers) {
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= distinctUsers; i++) {
+            User user = new User();
+            user.setId((long) i);
+            user.setUserName("user" + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setRoles(Set.of("USER"));
+            users.add(user);
+        }
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setDueDate(LocalDateTime.of(2026, 3, 2, 9, 0).plusDays(i % 30));
+            task.setStatus(i % 2 == 0 ? "Pending" : "Completed");
+            User user = users.get(i % distinctUsers);
+            task.setCreatedBy(user);
+            task.setAssignedTo(user);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
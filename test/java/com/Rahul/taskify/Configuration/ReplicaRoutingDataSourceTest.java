@@ -0,0 +1,138 @@
+package com.Rahul.taskify.Configuration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routing against two embedded H2 databases standing in for primary and replica;
+ * each holds a one-row table saying which one it is.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        routeTo(replica);
+    }
+
+    private void routeTo(DataSource replica) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), tracker,
+                Duration.ofSeconds(5), null, null, new SimpleMeterRegistry());
+        routing.checkReplicas();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertEquals("replica", readOnly.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void readWriteTransactionsAndNonTransactionalCallsGoToThePrimary() {
+        assertEquals("primary", readWrite.execute(status -> whoAmI()));
+        assertEquals("primary", whoAmI());
+    }
+
+    @Test
+    void userReadsStayOnThePrimaryRightAfterTheirOwnWrite() {
+        loginAs("alice");
+        readWrite.executeWithoutResult(status -> jdbc.update("UPDATE marker SET touched = touched + 1"));
+
+        assertEquals("primary", readOnly.execute(status -> whoAmI()));
+
+        loginAs("bob");
+        assertEquals("replica", readOnly.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void readWriteTransactionWithoutAWriteDoesNotPin() {
+        loginAs("alice");
+        readWrite.execute(status -> whoAmI());
+
+        assertEquals("replica", readOnly.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPin() {
+        loginAs("alice");
+        readWrite.executeWithoutResult(status -> {
+            jdbc.update("UPDATE marker SET touched = touched + 1");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", readOnly.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void writeOutsideATransactionPins() {
+        loginAs("alice");
+        jdbc.update("UPDATE marker SET touched = touched + 1");
+
+        assertEquals("primary", readOnly.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToThePrimary() {
+        // a separate DataSource, so tearDown still drops the real replica
+        routeTo(new DriverManagerDataSource("jdbc:h2:mem:does-not-exist;IFEXISTS=TRUE", "sa", ""));
+
+        assertEquals("primary", readOnly.execute(status -> whoAmI()));
+    }
+
+    private String whoAmI() {
+        return jdbc.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static void loginAs(String user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        // unique per test: a database left behind by a failed test cannot break the next one
+        String url = "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(16), touched INT)");
+        jdbc.update("INSERT INTO marker VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,121 @@
+package com.Rahul.taskify.Controller;
+
+import com.Rahul.taskify.Repository.UserRepository;
+import com.Rahul.taskify.Service.BriefingService;
+import com.Rahul.taskify.Service.ElevenLabsService;
+import com.Rahul.taskify.Service.TtsAudioCache;
+import com.Rahul.taskify.Service.TtsUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Audio is written by a StreamingResponseBody on the async executor: a success must start async processing
+ * and produce the clip on the async dispatch, errors are answered directly.
+ */
+class TtsControllerTest {
+
+    private static final byte[] CLIP = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path dir;
+
+    private ElevenLabsService elevenLabs;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        elevenLabs = mock(ElevenLabsService.class);
+        mvc = MockMvcBuilders.standaloneSetup(
+                new TtsController(elevenLabs, mock(BriefingService.class), mock(UserRepository.class))).build();
+    }
+
+    @Test
+    void generateServesTheClipFromMemory() throws Exception {
+        when(elevenLabs.getSpeech("hello")).thenReturn(TtsAudioCache.CachedAudio.ofBytes(CLIP));
+
+        MvcResult result = mvc.perform(speech("/api/tts/generate", "hello")).andExpect(request().asyncStarted()).andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(CLIP));
+    }
+
+    @Test
+    void generateServesARangeOfADiskHit() throws Exception {
+        Path file = Files.write(dir.resolve("clip.mp3"), CLIP);
+        when(elevenLabs.getSpeech("hello")).thenReturn(TtsAudioCache.CachedAudio.ofFile(file, CLIP.length));
+
+        MvcResult result = mvc.perform(speech("/api/tts/generate", "hello").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(request().asyncStarted()).andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().bytes("2345".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void unsatisfiableRangeIs416() throws Exception {
+        when(elevenLabs.getSpeech("hello")).thenReturn(TtsAudioCache.CachedAudio.ofBytes(CLIP));
+
+        mvc.perform(speech("/api/tts/generate", "hello").header(HttpHeaders.RANGE, "bytes=20-30"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    void unavailableTtsIs503WithRetryAfter() throws Exception {
+        when(elevenLabs.getSpeech(anyString())).thenThrow(new TtsUnavailableException("circuit open"));
+
+        mvc.perform(speech("/api/tts/generate", "hello"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+                .andExpect(content().string("circuit open"));
+    }
+
+    @Test
+    void blankTextIs400() throws Exception {
+        mvc.perform(speech("/api/tts/stream", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Request text is missing."));
+    }
+
+    @Test
+    void streamForwardsTheChunksInOrder() throws Exception {
+        when(elevenLabs.streamSpeech("hello")).thenReturn(Flux.just(
+                "01234".getBytes(StandardCharsets.US_ASCII), "56789".getBytes(StandardCharsets.US_ASCII)));
+
+        MvcResult result = mvc.perform(speech("/api/tts/stream", "hello")).andExpect(request().asyncStarted()).andReturn();
+
+        MvcResult done = mvc.perform(asyncDispatch(result)).andExpect(status().isOk()).andReturn();
+        assertArrayEquals(CLIP, done.getResponse().getContentAsByteArray());
+    }
+
+    private static MockHttpServletRequestBuilder speech(String path, String text) {
+        return post(path).contentType(MediaType.APPLICATION_JSON).content("{\"text\":\"" + text + "\"}");
+    }
+}
@@ -0,0 +1,55 @@
+package com.Rahul.taskify.Monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryInspectorTest {
+
+    private static final String USER_BY_ID = "select u.id, u.email from users u where u.id=?";
+
+    @Test
+    void shapeFoldsWhitespaceAndInLists() {
+        assertEquals("select * from task t where t.id in (?...)",
+                QueryInspector.shapeOf("select *\n  from task t where t.id in (?, ?,?)"));
+    }
+
+    @Test
+    void lenientModeCountsRepeatedShapes() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        QueryInspector inspector = new QueryInspector(registry, 3, 50, false);
+
+        inspector.open("GET /api/task/getAllTask");
+        for (int i = 0; i < 4; i++) {
+            inspector.inspect(USER_BY_ID);
+        }
+        inspector.close();
+
+        assertEquals(1.0, registry.get("hibernate.query.n-plus-one").counter().count());
+        assertEquals(4.0, registry.get("hibernate.statements.per.request").summary().totalAmount());
+    }
+
+    @Test
+    void strictModeFailsOnNPlusOne() {
+        QueryInspector inspector = new QueryInspector(new SimpleMeterRegistry(), 3, 50, true);
+
+        inspector.open("GET /api/task/getAllTask");
+        try {
+            inspector.inspect(USER_BY_ID);
+            inspector.inspect(USER_BY_ID);
+            assertThrows(IllegalStateException.class, () -> inspector.inspect(USER_BY_ID));
+        } finally {
+            inspector.close();
+        }
+    }
+
+    @Test
+    void statementsOutsideARequestAreNotInspected() {
+        QueryInspector inspector = new QueryInspector(new SimpleMeterRegistry(), 1, 1, true);
+
+        assertDoesNotThrow(() -> inspector.inspect(USER_BY_ID));
+    }
+}
@@ -0,0 +1,134 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.support.ElevenLabsStubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElevenLabsServiceStreamingTest {
+
+    private static final int CHUNKS = 5;
+    private static final int CHUNK_SIZE = 4096;
+    private static final long CHUNK_DELAY_MS = 200;
+
+    @TempDir
+    Path cacheDir;
+
+    private ElevenLabsStubServer stub;
+    private ElevenLabsService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new ElevenLabsStubServer(CHUNKS, CHUNK_SIZE, CHUNK_DELAY_MS);
+
+        TtsAudioCache cache = new TtsAudioCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "memoryMaxBytes", 1L << 20);
+        ReflectionTestUtils.setField(cache, "memoryMaxEntryBytes", 1L << 20);
+        ReflectionTestUtils.setField(cache, "diskDir", cacheDir);
+        ReflectionTestUtils.setField(cache, "diskMaxBytes", 1L << 20);
+        cache.init();
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service = new ElevenLabsService(WebClient.builder().baseUrl(stub.baseUrl()).build(), cache,
+                new TtsBulkhead(registry, 4, 8, Duration.ofSeconds(5)),
+                new TtsCircuitBreaker(registry, 5, Duration.ofSeconds(30)),
+                registry);
+        ReflectionTestUtils.setField(service, "apiKey", "test-key");
+        ReflectionTestUtils.setField(service, "voiceId", "test-voice");
+        ReflectionTestUtils.setField(service, "modelId", "test-model");
+        ReflectionTestUtils.setField(service, "stability", 0.5);
+        ReflectionTestUtils.setField(service, "similarityBoost", 0.5);
+        ReflectionTestUtils.setField(service, "chunkingThresholdChars", 60);
+        ReflectionTestUtils.setField(service, "maxChunkChars", 40);
+        ReflectionTestUtils.setField(service, "chunkParallelism", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void firstChunkArrivesBeforeSynthesisFinishes() {
+        long start = System.nanoTime();
+        byte[] first = service.streamSpeech("Finish the report").blockFirst(Duration.ofSeconds(5));
+        long firstByteMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertNotNull(first);
+        assertTrue(firstByteMillis < CHUNK_DELAY_MS * (CHUNKS - 1),
+                "first chunk took " + firstByteMillis + " ms, expected well before the full clip");
+    }
+
+    @Test
+    void completedStreamIsCachedForTheNextRequest() {
+        List<byte[]> chunks = service.streamSpeech("Water the plants").collectList().block(Duration.ofSeconds(5));
+        int total = chunks.stream().mapToInt(c -> c.length).sum();
+        assertEquals(CHUNKS * CHUNK_SIZE, total);
+
+        TtsAudioCache.CachedAudio cached = service.getCachedSpeech("Water the plants");
+        assertNotNull(cached);
+        assertEquals(total, cached.getLength());
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void identicalConcurrentRequestsShareOneUpstreamCall() {
+        Flux<byte[]> first = service.streamSpeech("Call the dentist");
+        Flux<byte[]> second = service.streamSpeech("Call the dentist");
+
+        List<Integer> sizes = Flux.merge(
+                        first.reduce(0, (n, chunk) -> n + chunk.length),
+                        second.reduce(0, (n, chunk) -> n + chunk.length))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of(CHUNKS * CHUNK_SIZE, CHUNKS * CHUNK_SIZE), sizes);
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void longTextIsSynthesizedPerSentenceChunkInOrder() {
+        String text = "Review the pull request. Update the release notes. Ping the team about the demo.";
+
+        List<byte[]> chunks = service.streamSpeech(text).collectList().block(Duration.ofSeconds(5));
+
+        assertEquals(3, stub.requestCount());
+        // each sentence's audio starts with its text, so a reordering would show up here
+        assertArrayEquals(concat(List.of(stub.audioFor("Review the pull request."),
+                        stub.audioFor("Update the release notes."),
+                        stub.audioFor("Ping the team about the demo."))),
+                concat(chunks));
+    }
+
+    @Test
+    void sentenceChunksStayWithinLimitWithoutSplittingSentences() {
+        List<String> chunks = ElevenLabsService.splitIntoSentenceChunks(
+                "One. Two two. Three three three. A much longer sentence that exceeds the limit on its own.", 20);
+
+        assertEquals(List.of("One. Two two.", "Three three three.",
+                "A much longer sentence that exceeds the limit on its own."), chunks);
+    }
+
+    private static byte[] concat(List<byte[]> parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parts.forEach(out::writeBytes);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.Repository.TaskRepository;
+import com.Rahul.taskify.dto.DomainEvent;
+import com.Rahul.taskify.dto.FocusTask;
+import com.Rahul.taskify.dto.TaskEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FocusIndexTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 3, 2, 12, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final TaskRepository repo = mock(TaskRepository.class);
+    private FocusIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FocusIndex(repo, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(index, "maxUsers", 2);
+        ReflectionTestUtils.setField(index, "priorityLead", Duration.ofDays(1));
+        ReflectionTestUtils.setField(index, "statusLead", Duration.ofHours(12));
+        ReflectionTestUtils.setField(index, "refreshAfter", Duration.ofMinutes(10));
+        index.init();
+    }
+
+    @Test
+    void ranksByEffectiveDeadline() {
+        when(repo.findOpenFocusTasks(1L)).thenReturn(List.of(
+                new FocusTask(1L, "low, tomorrow", NOON.plusDays(1), "Low", "Pending"),
+                new FocusTask(2L, "high, in two days", NOON.plusDays(2), "High", "Pending"),
+                new FocusTask(3L, "undated", null, "High", "Pending"),
+                new FocusTask(4L, "medium, tomorrow, in progress", NOON.plusDays(1), "Medium", "In Progress"),
+                new FocusTask(5L, "done via status", NOON, "High", "Completed")));
+
+        // effective deadlines from noon: 4 = +1d -2d -12h, 2 = +2d -3d, 1 = +1d -1d; undated last, 5 is not open
+        assertEquals(List.of(4L, 2L, 1L, 3L), ids(index.top(1L, 10)));
+        assertEquals(List.of(4L, 2L), ids(index.top(1L, 2)));
+    }
+
+    @Test
+    void eventsUpdateTheLoadedSet() throws Exception {
+        when(repo.findOpenFocusTasks(1L)).thenReturn(List.of(new FocusTask(1L, "a", NOON.plusDays(1), "Low", "Pending")));
+        index.top(1L, 10);
+
+        index.onTaskEvent(event(DomainEvent.TASK_CREATED, 2L, NOON, "High", false, 1L));
+        assertEquals(List.of(2L, 1L), ids(index.top(1L, 10)));
+
+        index.onTaskEvent(event(DomainEvent.TASK_COMPLETED, 2L, NOON, "High", true, 1L));
+        assertEquals(List.of(1L), ids(index.top(1L, 10)));
+
+        verify(repo, times(1)).findOpenFocusTasks(1L);
+    }
+
+    @Test
+    void reassignmentMovesTheTask() throws Exception {
+        when(repo.findOpenFocusTasks(1L)).thenReturn(List.of(new FocusTask(1L, "a", NOON, "Low", "Pending")));
+        when(repo.findOpenFocusTasks(2L)).thenReturn(List.of());
+        index.top(1L, 10);
+        index.top(2L, 10);
+
+        index.onTaskEvent(event(DomainEvent.TASK_ASSIGNED, 1L, NOON, "Low", false, 2L));
+
+        assertEquals(List.of(), ids(index.top(1L, 10)));
+        assertEquals(List.of(1L), ids(index.top(2L, 10)));
+    }
+
+    @Test
+    void dropsTheLeastRecentlyUsedUser() {
+        when(repo.findOpenFocusTasks(anyLong())).thenReturn(List.of());
+        index.top(1L, 1);
+        index.top(2L, 1);
+        index.top(1L, 1);
+        index.top(3L, 1); // evicts user 2
+
+        assertEquals(2, index.userCount());
+        index.top(2L, 1);
+        verify(repo, times(2)).findOpenFocusTasks(2L);
+        verify(repo, times(1)).findOpenFocusTasks(1L);
+    }
+
+    private DomainEvent event(String type, Long taskId, LocalDateTime due, String priority, boolean completed, Long userId)
+            throws Exception {
+        TaskEvent task = new TaskEvent(taskId, "t" + taskId, due, priority, completed ? "Completed" : "Pending", completed,
+                userId, "user" + userId, "user" + userId + "@example.com");
+        DomainEvent event = new DomainEvent();
+        event.setAggregateType(DomainEvent.TASK);
+        event.setEventType(type);
+        event.setPayload(objectMapper.writeValueAsString(task));
+        return event;
+    }
+
+    private static List<Long> ids(List<FocusTask> tasks) {
+        return tasks.stream().map(FocusTask::getTaskId).toList();
+    }
+}
@@ -0,0 +1,105 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.support.SmtpSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sends through {@link SmtpSink}, which counts messages and TCP connections.
+ */
+class MailDispatcherTest {
+
+    private SmtpSink smtp;
+    private JavaMailSenderImpl mailSender;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtp = new SmtpSink();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.port());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtp.close();
+    }
+
+    @Test
+    void reusesOneConnectionForManyMessages() throws Exception {
+        MailDispatcher dispatcher = dispatcher(1, 100);
+        dispatcher.start();
+
+        List<CompletableFuture<Void>> sent = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            sent.add(dispatcher.submit(message("user" + i + "@taskify.local")));
+        }
+        CompletableFuture.allOf(sent.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        dispatcher.stop();
+
+        assertEquals(30, smtp.messageCount());
+        assertEquals(1, smtp.connectionCount());
+        assertEquals(30, meterRegistry.get("mail.send").tag("result", "sent").timer().count());
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        MailDispatcher dispatcher = dispatcher(0, 2); // no worker: nothing drains the queue
+        dispatcher.start();
+
+        dispatcher.submit(message("a@taskify.local"));
+        dispatcher.submit(message("b@taskify.local"));
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> dispatcher.submit(message("c@taskify.local")).get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(1, meterRegistry.get("mail.rejected").counter().count());
+        assertEquals(2, meterRegistry.get("mail.queue.depth").gauge().value());
+    }
+
+    @Test
+    void withdrawsAQueuedMessage() throws Exception {
+        MailDispatcher dispatcher = dispatcher(0, 2); // no worker: the message stays queued
+        dispatcher.start();
+        CompletableFuture<Void> sent = dispatcher.submit(message("a@taskify.local"));
+
+        assertTrue(dispatcher.withdraw(sent));
+        assertTrue(sent.isCancelled());
+        assertEquals(0, meterRegistry.get("mail.queue.depth").gauge().value());
+        assertFalse(dispatcher.withdraw(sent));
+    }
+
+    private MailDispatcher dispatcher(int workers, int queueCapacity) {
+        return new MailDispatcher(mailSender, meterRegistry, workers, queueCapacity, 20, 100, Duration.ofMinutes(1));
+    }
+
+    private MimeMessage message(String to) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+        helper.setFrom("taskify@taskify.local");
+        helper.setTo(to);
+        helper.setSubject("Reminder");
+        helper.setText("<p>hello</p>", true);
+        return message;
+    }
+}
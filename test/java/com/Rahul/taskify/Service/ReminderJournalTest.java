@@ -0,0 +1,95 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.ReminderDigestMessage;
+import com.Rahul.taskify.dto.ReminderMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReminderJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recoversOnlyUnackedReminders() throws Exception {
+        try (ReminderJournal journal = open()) {
+            assertTrue(journal.recover().isEmpty());
+            long sent = journal.append(reminder(1L), false, 1, 0);
+            journal.append(reminder(2L), true, 3, 12345);
+            journal.ack(sent);
+        }
+
+        try (ReminderJournal journal = open()) {
+            List<ReminderJournal.Entry> recovered = journal.recover();
+            assertEquals(1, recovered.size());
+            ReminderJournal.Entry entry = recovered.get(0);
+            assertEquals(2L, ((ReminderMessage) entry.payload()).getTaskId());
+            assertTrue(entry.urgent());
+            assertEquals(3, entry.attempt());
+            assertEquals(12345, entry.notBeforeMillis());
+            // new ids continue after the recovered ones
+            assertTrue(journal.append(reminder(3L), false, 1, 0) > entry.id());
+        }
+    }
+
+    @Test
+    void keepsThePayloadType() throws Exception {
+        try (ReminderJournal journal = open()) {
+            journal.recover();
+            ReminderDigestMessage digest = new ReminderDigestMessage();
+            digest.setUserId(7L);
+            journal.append(digest, false, 1, 0);
+        }
+        try (ReminderJournal journal = open()) {
+            assertInstanceOf(ReminderDigestMessage.class, journal.recover().get(0).payload());
+        }
+    }
+
+    @Test
+    void skipsATornLastLine() throws Exception {
+        try (ReminderJournal journal = open()) {
+            journal.recover();
+            journal.append(reminder(1L), false, 1, 0);
+        }
+        Files.writeString(dir.resolve(ReminderJournal.FILE), "{\"op\":\"P\",\"id\":2,\"pay", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        try (ReminderJournal journal = open()) {
+            assertEquals(1, journal.recover().size());
+        }
+    }
+
+    @Test
+    void compactionDropsAckedRecords() throws Exception {
+        try (ReminderJournal journal = open()) {
+            journal.recover();
+            for (long i = 0; i < 5; i++) {
+                journal.ack(journal.append(reminder(i), false, 1, 0));
+            }
+            journal.append(reminder(99L), false, 1, 0);
+        }
+        // 5 acks with compactAfter=4: compacted once, then one more ack and one pending record
+        assertEquals(3, Files.readAllLines(dir.resolve(ReminderJournal.FILE)).size());
+    }
+
+    private ReminderJournal open() throws Exception {
+        return new ReminderJournal(dir, objectMapper, false, 4);
+    }
+
+    private static ReminderMessage reminder(Long taskId) {
+        return new ReminderMessage(taskId, "a@example.com", "a", "title", "2026-01-01", 0L, false, "2025-12-31");
+    }
+}
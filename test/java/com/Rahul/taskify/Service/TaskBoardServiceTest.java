@@ -0,0 +1,58 @@
+package com.Rahul.taskify.Service;
+
+import com.Rahul.taskify.dto.BoardCard;
+import com.Rahul.taskify.dto.BoardColumn;
+import com.Rahul.taskify.dto.BoardRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskBoardServiceTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 3, 2, 12, 0);
+
+    @Test
+    void listsTheFixedColumnsFirstEvenWhenEmpty() {
+        List<BoardColumn> board = TaskBoardService.columns(List.of());
+
+        assertEquals(List.of("Pending", "In Progress", "Completed"), board.stream().map(BoardColumn::getStatus).toList());
+        board.forEach(column -> {
+            assertEquals(0, column.getCount());
+            assertEquals(List.of(), column.getCards());
+        });
+    }
+
+    @Test
+    void groupsRowsKeepingTheQueryOrderAndColumnCount() {
+        List<BoardColumn> board = TaskBoardService.columns(List.of(
+                new Row(7L, "review", NOON, "High", "Blocked", 1),
+                new Row(3L, "a", NOON, "High", "In Progress", 5),
+                new Row(1L, "b", NOON.plusDays(1), "Low", "In Progress", 5),
+                new Row(2L, "c", null, "Medium", "Pending", 1)));
+
+        assertEquals(List.of("Pending", "In Progress", "Completed", "Blocked"),
+                board.stream().map(BoardColumn::getStatus).toList());
+        assertEquals(List.of(2L), ids(board.get(0)));
+        assertEquals(5, board.get(1).getCount()); // more tasks than cards: the count comes from the whole column
+        assertEquals(List.of(3L, 1L), ids(board.get(1)));
+        assertEquals(0, board.get(2).getCount());
+        assertEquals(List.of(7L), ids(board.get(3)));
+    }
+
+    private static List<Long> ids(BoardColumn column) {
+        return column.getCards().stream().map(BoardCard::getTaskId).toList();
+    }
+
+    private record Row(Long id, String title, LocalDateTime dueDate, String priority, String status, long total)
+            implements BoardRow {
+        @Override public Long getId() { return id; }
+        @Override public String getTitle() { return title; }
+        @Override public LocalDateTime getDueDate() { return dueDate; }
+        @Override public String getPriority() { return priority; }
+        @Override public String getStatus() { return status; }
+        @Override public long getTotal() { return total; }
+    }
+}
@@ -0,0 +1,55 @@
+package com.Rahul.taskify.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    // 100 ms ticks, 8 buckets: one revolution is 800 ms
+    private final TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+
+    @Test
+    void expiresAtTheDeadlineTick() {
+        wheel.schedule("a", 250);
+
+        assertTrue(wheel.advance(200).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(300));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void deadlinesBeyondOneRevolutionWaitForTheirRound() {
+        wheel.schedule("near", 300);
+        wheel.schedule("far", 300 + 8 * 100 * 2); // same bucket, two revolutions later
+
+        assertEquals(List.of("near"), wheel.advance(300));
+        assertTrue(wheel.advance(1800).isEmpty());
+        assertEquals(List.of("far"), wheel.advance(1900));
+    }
+
+    @Test
+    void rescheduleReplacesAndCancelRemoves() {
+        wheel.schedule("a", 200);
+        wheel.schedule("a", 600);
+        wheel.schedule("b", 200);
+
+        assertTrue(wheel.cancel("b"));
+        assertFalse(wheel.cancel("b"));
+        assertTrue(wheel.advance(500).isEmpty());
+        assertEquals(600L, wheel.deadlineOf("a"));
+        assertEquals(List.of("a"), wheel.advance(600));
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextTick() {
+        wheel.advance(1000);
+        wheel.schedule("late", 100);
+
+        assertEquals(List.of("late"), wheel.advance(1100));
+    }
+}
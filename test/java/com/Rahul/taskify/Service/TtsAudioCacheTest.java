@@ -0,0 +1,81 @@
+package com.Rahul.taskify.Service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Disk tier only (memory entries capped at 0 bytes): writes land in the background, eviction follows last access.
+ */
+class TtsAudioCacheTest {
+
+    private static final byte[] CLIP = new byte[10];
+
+    @TempDir
+    Path dir;
+
+    private TtsAudioCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TtsAudioCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "memoryMaxBytes", 1L << 20);
+        ReflectionTestUtils.setField(cache, "memoryMaxEntryBytes", 0L);
+        ReflectionTestUtils.setField(cache, "diskDir", dir);
+        ReflectionTestUtils.setField(cache, "diskMaxBytes", 25L);
+        ReflectionTestUtils.setField(cache, "evictionGrace", Duration.ZERO);
+        cache.init();
+    }
+
+    @Test
+    void diskWriteIsServedOnceItLands() throws Exception {
+        cache.put("a", CLIP);
+        await(() -> Files.isRegularFile(dir.resolve("a.mp3")));
+
+        TtsAudioCache.CachedAudio hit = cache.get("a");
+        assertNotNull(hit);
+        assertTrue(hit.isFile());
+        assertEquals(CLIP.length, hit.getLength());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyReadClip() throws Exception {
+        cache.put("a", CLIP);
+        await(() -> Files.isRegularFile(dir.resolve("a.mp3")));
+        Thread.sleep(5);
+        cache.put("b", CLIP);
+        await(() -> Files.isRegularFile(dir.resolve("b.mp3")));
+        Thread.sleep(5);
+        assertNotNull(cache.get("a")); // "b" is now the least recently used
+
+        Thread.sleep(5);
+        cache.put("c", CLIP);
+
+        await(() -> !Files.exists(dir.resolve("b.mp3")));
+        assertTrue(Files.isRegularFile(dir.resolve("a.mp3")));
+        assertTrue(Files.isRegularFile(dir.resolve("c.mp3")));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met within 5s");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
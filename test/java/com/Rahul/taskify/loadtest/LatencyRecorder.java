@@ -0,0 +1,54 @@
+package com.Rahul.taskify.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (HdrHistogram, microsecond resolution) plus error counts.
+ */
+class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long startNanos, boolean success) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, e -> new Endpoint());
+        stats.histogram.recordValue(Math.min(Math.max(micros, 1), MAX_TRACKABLE_MICROS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    // one row per endpoint, sorted by name
+    Map<String, EndpointReport> report(double elapsedSeconds) {
+        Map<String, EndpointReport> rows = new TreeMap<>();
+        endpoints.forEach((name, stats) -> {
+            Histogram h = stats.histogram.copy();
+            rows.put(name, new EndpointReport(
+                    h.getTotalCount(),
+                    stats.errors.sum(),
+                    h.getTotalCount() / elapsedSeconds,
+                    h.getValueAtPercentile(50) / 1000.0,
+                    h.getValueAtPercentile(99) / 1000.0,
+                    h.getMaxValue() / 1000.0));
+        });
+        return rows;
+    }
+
+    private static final class Endpoint {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    record EndpointReport(long requests, long errors, double throughputPerSecond,
+                          double p50Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,193 @@
+package com.Rahul.taskify.loadtest;
+
+import com.Rahul.taskify.Service.ReminderScheduler;
+import com.Rahul.taskify.support.ElevenLabsStubServer;
+import com.Rahul.taskify.support.SmtpSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test of the whole app with every external dependency replaced by an in-process stand-in:
+ *  - MySQL      -> H2 (in-memory by default, see application-loadtest.properties)
+ *  - Redis      -> simple in-memory cache
+ *  - RabbitMQ   -> reminder.transport=inprocess: the app's own in-process lanes, calling the real ReminderConsumer
+ *  - SMTP       -> {@link SmtpSink}
+ *  - ElevenLabs -> {@link ElevenLabsStubServer}
+ *
+ * {@code loadtest.users} virtual users run the {@link VirtualUser} mix for {@code loadtest.duration} while the
+ * reminder run is triggered every {@code loadtest.reminder-interval}. Prints p50 / p99 / throughput per endpoint
+ * and writes the same numbers as JSON to {@code loadtest.report}.
+ *
+ * Run with: mvn -Ploadtest verify -Dloadtest.users=32 -Dloadtest.duration=120s
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class TaskifyLoadTest {
+
+    private static final SmtpSink SMTP = start(SmtpSink::new);
+    private static final ElevenLabsStubServer TTS = start(() -> new ElevenLabsStubServer(4, 8192, 50));
+
+    @DynamicPropertySource
+    static void standIns(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "127.0.0.1");
+        registry.add("spring.mail.port", SMTP::port);
+        registry.add("elevenlabs.api.base-url", TTS::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStandIns() throws IOException {
+        SMTP.close();
+        TTS.close();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ReminderScheduler reminderScheduler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void mixedTraffic() throws Exception {
+        int users = Integer.getInteger("loadtest.users", 16);
+        Duration duration = Duration.parse("PT" + System.getProperty("loadtest.duration", "60s").toUpperCase());
+        Duration reminderInterval = Duration.parse("PT" + System.getProperty("loadtest.reminder-interval", "10s").toUpperCase());
+        Path reportFile = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        String baseUrl = "http://127.0.0.1:" + port;
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            VirtualUser user = new VirtualUser(http, objectMapper, baseUrl, recorder, "loaduser" + i, "secret" + i, deadline);
+            user.register();
+            virtualUsers.add(user);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(users + 1);
+        List<Future<?>> running = new ArrayList<>();
+        virtualUsers.forEach(user -> running.add(pool.submit(user)));
+        running.add(pool.submit(() -> runReminders(recorder, deadline, reminderInterval)));
+        for (Future<?> future : running) {
+            future.get(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        assertTrue(awaitReminders(Duration.ofSeconds(60)), "reminder consumers did not finish");
+
+        Map<String, LatencyRecorder.EndpointReport> endpoints = recorder.report(elapsedSeconds);
+        print(endpoints, elapsedSeconds);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", users);
+        report.put("durationSeconds", elapsedSeconds);
+        report.put("remindersDelivered", remindersHandled());
+        report.put("emailsSent", SMTP.messageCount());
+        report.put("ttsUpstreamRequests", TTS.requestCount());
+        report.put("endpoints", endpoints);
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Load test report written to " + reportFile.toAbsolutePath());
+
+        long requests = endpoints.values().stream().mapToLong(LatencyRecorder.EndpointReport::requests).sum();
+        long errors = endpoints.values().stream().mapToLong(LatencyRecorder.EndpointReport::errors).sum();
+        assertTrue(errors <= requests / 100, "error rate above 1%: " + errors + " of " + requests);
+    }
+
+    private void runReminders(LatencyRecorder recorder, long deadline, Duration interval) {
+        try {
+            while (System.nanoTime() + interval.toNanos() < deadline) {
+                Thread.sleep(interval.toMillis());
+                long start = System.nanoTime();
+                boolean ok = true;
+                try {
+                    reminderScheduler.sendTaskReminders();
+                } catch (RuntimeException e) {
+                    ok = false;
+                }
+                recorder.record("reminderRun", start, ok);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // waits until the in-process lanes and the delay queue are empty and the handled count has stopped moving
+    private boolean awaitReminders(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        double handled = -1;
+        while (System.nanoTime() < deadline) {
+            double waiting = meterRegistry.find("reminder.transport.depth").gauges().stream().mapToDouble(Gauge::value).sum()
+                    + meterRegistry.get("reminder.transport.delayed").gauge().value();
+            double now = remindersHandled();
+            if (waiting == 0 && now == handled) {
+                return true;
+            }
+            handled = now;
+            Thread.sleep(250);
+        }
+        return false;
+    }
+
+    // every reminder the consumer finished, whatever the outcome
+    private double remindersHandled() {
+        return meterRegistry.find("reminder.emails").counters().stream().mapToDouble(Counter::count).sum()
+                + meterRegistry.find("reminder.duplicates").counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    private static void print(Map<String, LatencyRecorder.EndpointReport> endpoints, double elapsedSeconds) {
+        System.out.printf("%n--- Load test: %.1f s ---%n", elapsedSeconds);
+        System.out.printf("%-16s %9s %7s %10s %10s %10s %10s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        endpoints.forEach((name, r) -> System.out.printf("%-16s %9d %7d %10.1f %10.2f %10.2f %10.2f%n",
+                name, r.requests(), r.errors(), r.throughputPerSecond(), r.p50Millis(), r.p99Millis(), r.maxMillis()));
+        System.out.printf("emails sent: %d, TTS upstream calls: %d%n%n", SMTP.messageCount(), TTS.requestCount());
+    }
+
+    private static <T> T start(StandIn<T> standIn) {
+        try {
+            return standIn.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("could not start load-test stand-in", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StandIn<T> {
+        T start() throws IOException;
+    }
+}
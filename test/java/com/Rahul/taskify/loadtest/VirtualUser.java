@@ -0,0 +1,172 @@
+package com.Rahul.taskify.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One simulated user: logs in once, then loops over a weighted mix of requests until the deadline.
+ *
+ * Mix (weights out of 100): reads dominate like in the real UI, which refreshes the task list after
+ * every change and filters by status / priority.
+ */
+class VirtualUser implements Runnable {
+
+    private static final String[] PRIORITIES = {"High", "Medium", "Low"};
+    private static final String[] STATUSES = {"Pending", "In Progress", "Completed"};
+    private static final String[] TTS_TEXTS = {
+            "You have three tasks due today.",
+            "Your next task is to review the pull request.",
+            "Good morning, nothing is due today."
+    };
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final String userName;
+    private final String password;
+    private final long deadlineNanos;
+
+    private final List<Long> taskIds = new ArrayList<>();
+    private String accessToken;
+
+    VirtualUser(HttpClient http, ObjectMapper objectMapper, String baseUrl, LatencyRecorder recorder,
+                String userName, String password, long deadlineNanos) {
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.userName = userName;
+        this.password = password;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    void register() throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "userName", userName, "password", password, "email", userName + "@loadtest.local"));
+        send("register", request("/users/register").POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    @Override
+    public void run() {
+        try {
+            login();
+            while (System.nanoTime() < deadlineNanos) {
+                int dice = ThreadLocalRandom.current().nextInt(100);
+                if (dice < 5) {
+                    login();
+                } else if (dice < 20 || taskIds.isEmpty()) {
+                    createTask();
+                } else if (dice < 30) {
+                    updateTask();
+                } else if (dice < 35) {
+                    deleteTask();
+                } else if (dice < 60) {
+                    send("getAllTask", authorized("/api/task/getAllTask").GET());
+                } else if (dice < 70) {
+                    send("getTask", authorized("/api/task/getTask/" + anyTaskId()).GET());
+                } else if (dice < 82) {
+                    query("getByStatus", authorized("/api/task/getByStatus/" + pick(STATUSES).replace(" ", "%20")).GET());
+                } else if (dice < 92) {
+                    query("getByPriority", authorized("/api/task/getByPriority/" + pick(PRIORITIES)).GET());
+                } else if (dice < 97) {
+                    send("getAllTaskPaged", authorized("/api/task/getAllTaskPaged?page=0&size=10&sortBy=dueDate").GET());
+                } else {
+                    String body = objectMapper.writeValueAsString(Map.of("text", pick(TTS_TEXTS)));
+                    send("ttsGenerate", request("/api/tts/generate").POST(HttpRequest.BodyPublishers.ofString(body)));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            throw new IllegalStateException("virtual user " + userName + " failed", e);
+        }
+    }
+
+    private void login() throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("userName", userName, "userPassword", password));
+        HttpResponse<String> response = send("login", request("/users/login").POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (response.statusCode() == 200) {
+            accessToken = objectMapper.readTree(response.body()).get("accessToken").asText();
+        }
+    }
+
+    private void createTask() throws Exception {
+        // due dates spread over today .. +3 days so the reminder run has work to do
+        LocalDate due = LocalDate.now().plusDays(ThreadLocalRandom.current().nextInt(4));
+        String body = objectMapper.writeValueAsString(Map.of(
+                "title", "Load test task " + ThreadLocalRandom.current().nextInt(1_000_000),
+                "description", "Created by " + userName,
+                "dueDate", due.atTime(9, 0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                "priority", pick(PRIORITIES),
+                "status", "Pending"));
+        HttpResponse<String> response = send("create", authorized("/api/task/create").POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (response.statusCode() == 200) {
+            JsonNode created = objectMapper.readTree(response.body());
+            taskIds.add(created.get("id").asLong());
+        }
+    }
+
+    private void updateTask() throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "status", pick(STATUSES),
+                "priority", pick(PRIORITIES)));
+        send("update", authorized("/api/task/update/" + anyTaskId()).PUT(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private void deleteTask() throws Exception {
+        Long id = taskIds.remove(ThreadLocalRandom.current().nextInt(taskIds.size()));
+        send("delete", authorized("/api/task/delete/" + id).DELETE());
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder builder) throws Exception {
+        return send(endpoint, builder, false);
+    }
+
+    // the filter endpoints answer 404 when the user has no task with that status / priority
+    private HttpResponse<String> query(String endpoint, HttpRequest.Builder builder) throws Exception {
+        return send(endpoint, builder, true);
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder builder, boolean notFoundIsEmpty) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.record(endpoint, start, false);
+            throw e;
+        }
+        int status = response.statusCode();
+        recorder.record(endpoint, start, status < 400 || (notFoundIsEmpty && status == 404));
+        return response;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return request(path).header("Authorization", "Bearer " + accessToken);
+    }
+
+    private long anyTaskId() {
+        return taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+    }
+
+    private static String pick(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+}
@@ -0,0 +1,94 @@
+package com.Rahul.taskify.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tiny in-process stand-in for the ElevenLabs streaming endpoint.
+ *
+ * Answers POST /v1/text-to-speech/{voiceId}/stream with a chunked audio/mpeg body of
+ * {@code chunkCount} chunks of {@code chunkSize} bytes, pausing {@code chunkDelayMillis} between chunks,
+ * so tests can observe time-to-first-byte vs. total synthesis time. The body starts with the requested text
+ * (see {@link #audioFor}), so tests can tell which request a piece of audio came from.
+ * Point the app at it with {@code elevenlabs.api.base-url=<baseUrl()>}.
+ */
+public class ElevenLabsStubServer implements AutoCloseable {
+
+    private static final Pattern TEXT = Pattern.compile("\"text\"\\s*:\\s*\"([^\"]*)\"");
+
+    private final HttpServer server;
+    private final int chunkCount;
+    private final int chunkSize;
+    private final long chunkDelayMillis;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    public ElevenLabsStubServer(int chunkCount, int chunkSize, long chunkDelayMillis) throws IOException {
+        this.chunkCount = chunkCount;
+        this.chunkSize = chunkSize;
+        this.chunkDelayMillis = chunkDelayMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/v1/text-to-speech/", this::handle);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+    }
+
+    public int requestCount() {
+        return requests.get();
+    }
+
+    // The full body answered for this text: chunk i filled with byte i, the text's bytes written over the start
+    public byte[] audioFor(String text) {
+        byte[] audio = new byte[chunkCount * chunkSize];
+        for (int i = 0; i < chunkCount; i++) {
+            Arrays.fill(audio, i * chunkSize, (i + 1) * chunkSize, (byte) i);
+        }
+        byte[] marker = text.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(marker, 0, audio, 0, Math.min(marker.length, audio.length));
+        return audio;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        Matcher text = TEXT.matcher(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        byte[] audio = audioFor(text.find() ? text.group(1) : "");
+
+        if (!"POST".equals(exchange.getRequestMethod()) || exchange.getRequestHeaders().getFirst("xi-api-key") == null) {
+            exchange.sendResponseHeaders(401, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "audio/mpeg");
+        exchange.sendResponseHeaders(200, 0); // 0 = chunked
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < chunkCount; i++) {
+                out.write(audio, i * chunkSize, chunkSize);
+                out.flush();
+                if (chunkDelayMillis > 0 && i < chunkCount - 1) {
+                    Thread.sleep(chunkDelayMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}